@@ -0,0 +1,29 @@
+package com.simulator.core;
+
+/**
+ * Generador basado en contador: el valor {@code n} de un flujo es una función
+ * pura de (flujo, n). Cada proceso guarda solo su clave de flujo y cuántos
+ * valores consumió, así que no hay objetos ni estado compartido por proceso y
+ * las corridas se reproducen igual en uno o varios hilos.
+ */
+public interface GeneradorAleatorio {
+
+    /**
+     * Clave del flujo de un proceso, derivada de forma reproducible de
+     * (semilla, pid).
+     */
+    long flujo(long semilla, int pid);
+
+    /**
+     * 64 bits pseudoaleatorios en la posición {@code paso} del flujo.
+     */
+    long bits(long flujo, long paso);
+
+    /**
+     * Entero uniforme en [a, b] (a <= b) en la posición {@code paso}.
+     */
+    default int entre(long flujo, long paso, int a, int b) {
+        long n = (long) b - a + 1;
+        return (int) (a + (((bits(flujo, paso) >>> 32) * n) >>> 32));
+    }
+}
@@ -0,0 +1,124 @@
+package com.simulator.core;
+
+import java.util.Arrays;
+
+/**
+ * Mapa int→int de direccionamiento abierto (sondeo lineal, borrado por
+ * desplazamiento hacia atrás). Sin boxing ni objetos por entrada. Los valores
+ * deben ser >= 0; -1 significa "ausente".
+ */
+public final class IndicePid {
+
+    private static final int VACIO = -1;
+
+    private int[] claves;
+    private int[] valores;
+    private int mascara;
+    private int tamano;
+
+    public IndicePid(int capacidadEsperada) {
+        int c = Integer.highestOneBit(Math.max(4, capacidadEsperada * 2 - 1)) << 1;
+        claves = new int[c];
+        valores = new int[c];
+        Arrays.fill(valores, VACIO);
+        mascara = c - 1;
+    }
+
+    public int get(int clave) {
+        int i = hash(clave) & mascara;
+        while (valores[i] != VACIO) {
+            if (claves[i] == clave) {
+                return valores[i];
+            }
+            i = (i + 1) & mascara;
+        }
+        return VACIO;
+    }
+
+    public boolean contiene(int clave) {
+        return get(clave) != VACIO;
+    }
+
+    public void put(int clave, int valor) {
+        if (valor < 0) {
+            throw new IllegalArgumentException("valor debe ser >= 0");
+        }
+        int i = hash(clave) & mascara;
+        while (valores[i] != VACIO) {
+            if (claves[i] == clave) {
+                valores[i] = valor;
+                return;
+            }
+            i = (i + 1) & mascara;
+        }
+        claves[i] = clave;
+        valores[i] = valor;
+        if (++tamano * 2 > claves.length) {
+            redimensionar(claves.length * 2);
+        }
+    }
+
+    /**
+     * Quita la clave y devuelve su valor, o -1 si no estaba.
+     */
+    public int remove(int clave) {
+        int i = hash(clave) & mascara;
+        while (valores[i] != VACIO) {
+            if (claves[i] == clave) {
+                int v = valores[i];
+                borrarEn(i);
+                tamano--;
+                return v;
+            }
+            i = (i + 1) & mascara;
+        }
+        return VACIO;
+    }
+
+    public int size() {
+        return tamano;
+    }
+
+    public void clear() {
+        Arrays.fill(valores, VACIO);
+        tamano = 0;
+    }
+
+    // Desplaza hacia atrás las entradas del mismo racimo para no dejar huecos
+    private void borrarEn(int hueco) {
+        int i = hueco;
+        while (true) {
+            i = (i + 1) & mascara;
+            if (valores[i] == VACIO) {
+                break;
+            }
+            int ideal = hash(claves[i]) & mascara;
+            boolean mover = (hueco <= i) ? (ideal <= hueco || ideal > i) : (ideal <= hueco && ideal > i);
+            if (mover) {
+                claves[hueco] = claves[i];
+                valores[hueco] = valores[i];
+                hueco = i;
+            }
+        }
+        valores[hueco] = VACIO;
+    }
+
+    private void redimensionar(int capacidad) {
+        int[] k = claves, v = valores;
+        claves = new int[capacidad];
+        valores = new int[capacidad];
+        Arrays.fill(valores, VACIO);
+        mascara = capacidad - 1;
+        tamano = 0;
+        for (int i = 0; i < k.length; i++) {
+            if (v[i] != VACIO) {
+                put(k[i], v[i]);
+            }
+        }
+    }
+
+    private static int hash(int x) {
+        int h = x * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
@@ -1,197 +1,154 @@
 package com.simulator.core;
 
 import java.util.Objects;
-import java.util.Random;
 
+/**
+ * Vista de un slot de {@link TablaProcesos}. Un Proceso creado con el
+ * constructor público vive en su propia tabla de un solo slot. Al retirarse
+ * el slot la vista queda con una copia congelada de la fila, de solo lectura.
+ */
 public final class Proceso {
 
-    private final int pid;
-    private final String nombre;
+    // tabla == null una vez retirado (ver TablaProcesos.retirar); ahí manda fila
+    TablaProcesos tabla;
+    int slot;
+    private Retirado fila;
 
-    private EstadoProceso estado = EstadoProceso.NEW;
-    private final int prioridad;        // 1 = más alta (menor número)
-    private int tiempoRestante;         // ráfaga restante (ticks)
-
-    private final int tiempoLlegada;
-
-    private int cpuUsage;               // 0..100
-    private int memoria;                // MB (>=0)
-
-    private int tiempoEjecucion;        // ticks ejecutados (RUNNING)
-    private int tiempoEspera;           // ticks esperando (READY)
-
-    private final int tickLlegada;         // = tiempoLlegada (alias)
-    private int tickPrimeraEjecucion = -1; // primer tick estando RUNNING
-    private int tickFinalizacion = -1;     // tick cuando pasa a TERMINATED
-    private final int rafagaTotal;         // ráfaga original
-
-    private final Random rng;
-
-    private static final int CPU_MIN = 5, CPU_MAX = 100;
-    private static final int MEM_MIN = 10, MEM_MAX = 500;
+    /**
+     * Fila de un proceso ya retirado de su tabla. {@code nombre} null = "P" + pid.
+     */
+    record Retirado(int pid, String nombre, EstadoProceso estado, int prioridad, int restante,
+                    int rafagaTotal, int llegada, int primeraEjec, int fin, int ejecucion,
+                    int espera, int cpu, int memoria) {
+    }
 
-    public Proceso(int pid, String nombre, int tiempoLlegada, int rafagaInicial, int prioridad, Random rng) {
+    public Proceso(int pid, String nombre, int tiempoLlegada, int rafagaInicial, int prioridad, long semilla) {
         if (rafagaInicial <= 0) {
             throw new IllegalArgumentException("rafagaInicial debe ser > 0");
         }
-        this.pid = pid;
-        this.nombre = Objects.requireNonNull(nombre);
-        this.tiempoLlegada = tiempoLlegada;
-        this.tiempoRestante = rafagaInicial;
-        this.rafagaTotal = rafagaInicial;
-        this.prioridad = (prioridad <= 0) ? 1 : prioridad;
-        this.estado = EstadoProceso.NEW;
-
-        this.rng = (rng == null) ? new Random() : rng;
-
-        this.cpuUsage = randBetween(CPU_MIN, 30); // 5..30% al inicio
-        this.memoria = randBetween(MEM_MIN, 200); // 10..200 MB al inicio
-
-        this.tickLlegada = tiempoLlegada;
+        this.tabla = new TablaProcesos(1);
+        this.slot = tabla.alta(pid, Objects.requireNonNull(nombre), tiempoLlegada, rafagaInicial, prioridad, semilla);
+        tabla.vista[slot] = this;
     }
 
-    public void avanzarTick(int tickActual) {
-        switch (estado) {
-            case RUNNING -> {
-                if (tickPrimeraEjecucion < 0) {
-                    tickPrimeraEjecucion = tickActual;
-                }
-
-                tiempoRestante = Math.max(0, tiempoRestante - 1);
-                tiempoEjecucion++;
-                actualizarConsumoAleatorio();
-
-                if (tiempoRestante == 0) {
-                    estado = EstadoProceso.TERMINATED;
-                    cpuUsage = 0;
-                    memoria = 0;
-                    tickFinalizacion = tickActual;
-                }
-            }
-            case READY -> {
-                tiempoEspera++;
-                cpuUsage = 0;
-            }
-            case BLOCKED -> {
-                cpuUsage = 0;
-            }
-            default -> {
-                // NEW/TERMINATED: nada
-            }
-        }
+    Proceso(TablaProcesos tabla, int slot) {
+        this.tabla = tabla;
+        this.slot = slot;
     }
 
-    public void cambiarEstado(EstadoProceso nuevo) {
-        this.estado = nuevo;
-        if (nuevo == EstadoProceso.READY) {
-            cpuUsage = 0;
-        }
+    void desprender(Retirado fila) {
+        this.fila = fila;
+        this.tabla = null;
+        this.slot = -1;
     }
 
-    private void actualizarConsumoAleatorio() {
-        this.cpuUsage = clamp(randBetween(CPU_MIN, CPU_MAX), 0, 100);
-        this.memoria = clamp(randBetween(MEM_MIN, MEM_MAX), 0, 2048);
+    public void avanzarTick(int tickActual) {
+        // retirado = TERMINATED: avanzar no le hace nada
+        if (tabla != null) {
+            tabla.avanzarTick(slot, tickActual);
+        }
     }
 
-    private int randBetween(int a, int b) {
-        if (a > b) {
-            int t = a;
-            a = b;
-            b = t;
-        }
-        return a + rng.nextInt(b - a + 1);
+    /**
+     * Avanza {@code n} ticks seguidos en RUNNING sin terminar (n menor que la
+     * ráfaga restante). cpu/memoria se muestrean una sola vez, en el último,
+     * con los mismos valores que daría avanzar tick a tick.
+     */
+    public void avanzarTicks(int n, int tickFinal) {
+        enTabla().avanzarTicks(slot, n, tickFinal);
     }
 
-    private static int clamp(int v, int lo, int hi) {
-        return Math.max(lo, Math.min(hi, v));
+    public void cambiarEstado(EstadoProceso nuevo) {
+        enTabla().cambiarEstado(slot, nuevo);
     }
 
     public int getPid() {
-        return pid;
+        return tabla != null ? tabla.pid[slot] : fila.pid();
     }
 
     public String getNombre() {
-        return nombre;
+        if (tabla != null) {
+            return tabla.nombre(slot);
+        }
+        return fila.nombre() != null ? fila.nombre() : "P" + fila.pid();
     }
 
     public EstadoProceso getEstado() {
-        return estado;
+        return tabla != null ? tabla.estado(slot) : fila.estado();
     }
 
     public int getPrioridad() {
-        return prioridad;
+        return tabla != null ? tabla.prioridad[slot] : fila.prioridad();
     }
 
     public int getTiempoLlegada() {
-        return tiempoLlegada;
+        return tabla != null ? tabla.llegada[slot] : fila.llegada();
     }
 
     public int getTiempoRestante() {
-        return tiempoRestante;
+        return tabla != null ? tabla.restante[slot] : fila.restante();
     }
 
     public int getCpuUsage() {
-        return cpuUsage;
+        return tabla != null ? tabla.cpu[slot] : fila.cpu();
     }
 
     public int getMemoria() {
-        return memoria;
+        return tabla != null ? tabla.memoria[slot] : fila.memoria();
     }
 
     public int getTiempoEjecucion() {
-        return tiempoEjecucion;
+        return tabla != null ? tabla.ejecucion[slot] : fila.ejecucion();
     }
 
     public int getTiempoEspera() {
-        return tiempoEspera;
+        return tabla != null ? tabla.espera(slot) : fila.espera();
     }
 
     public int getTickLlegada() {
-        return tickLlegada;
+        return tabla != null ? tabla.llegada[slot] : fila.llegada();
     }
 
     public int getTickPrimeraEjecucion() {
-        return tickPrimeraEjecucion;
+        return tabla != null ? tabla.primeraEjec[slot] : fila.primeraEjec();
     }
 
     public int getTickFinalizacion() {
-        return tickFinalizacion;
+        return tabla != null ? tabla.fin[slot] : fila.fin();
     }
 
     public int getRafagaTotal() {
-        return rafagaTotal;
+        return tabla != null ? tabla.rafagaTotal[slot] : fila.rafagaTotal();
     }
 
     public boolean haComenzado() {
-        return tickPrimeraEjecucion >= 0;
+        return getTickPrimeraEjecucion() >= 0;
     }
 
     public boolean haTerminado() {
-        return tickFinalizacion >= 0;
+        return getTickFinalizacion() >= 0;
     }
 
     public int compareRemaining(Proceso other) {
-        return Integer.compare(this.tiempoRestante, other.tiempoRestante);
+        return Integer.compare(this.getTiempoRestante(), other.getTiempoRestante());
     }
 
     public int comparePrioridad(Proceso other) {
-        return Integer.compare(this.prioridad, other.prioridad);
+        return Integer.compare(this.getPrioridad(), other.getPrioridad());
     }
 
     public void forzarTerminar(int tickActual) {
-        this.estado = EstadoProceso.TERMINATED;
-        this.tiempoRestante = 0;
-        this.cpuUsage = 0;
-        this.memoria = 0;
-        this.tickFinalizacion = tickActual;
+        enTabla().forzarTerminar(slot, tickActual);
     }
 
     public void forzarTerminar() {
         forzarTerminar(-1);
     }
 
-    public void acumularEsperaUnTick() {
-        tiempoEspera++;
+    private TablaProcesos enTabla() {
+        if (tabla == null) {
+            throw new IllegalStateException("Proceso retirado: " + fila.pid());
+        }
+        return tabla;
     }
-
 }
@@ -0,0 +1,32 @@
+package com.simulator.core;
+
+/**
+ * SplitMix64 en forma de contador (la misma mezcla que
+ * {@link java.util.SplittableRandom}): el valor n-ésimo es
+ * {@code mix(flujo + (n + 1) * GAMMA)}.
+ */
+public final class SplitMix64 implements GeneradorAleatorio {
+
+    public static final SplitMix64 INSTANCIA = new SplitMix64();
+
+    private static final long GAMMA = 0x9E3779B97F4A7C15L;
+
+    private SplitMix64() {
+    }
+
+    @Override
+    public long flujo(long semilla, int pid) {
+        return mix(semilla ^ mix(pid * GAMMA + GAMMA));
+    }
+
+    @Override
+    public long bits(long flujo, long paso) {
+        return mix(flujo + (paso + 1) * GAMMA);
+    }
+
+    static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,593 @@
+package com.simulator.core;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Tabla de procesos en columnas primitivas indexadas por slot. Los recorridos
+ * por tick (espera, snapshot, conteos) leen directamente las columnas;
+ * {@link Proceso} es solo una vista de un slot para planificadores y UI.
+ * <p>
+ * Los slots de procesos retirados se reutilizan, y los recorridos solo visitan
+ * los vivos, así que el costo sigue a la población viva y no al histórico.
+ */
+public final class TablaProcesos {
+
+    private static final EstadoProceso[] ESTADOS = EstadoProceso.values();
+    private static final byte READY = (byte) EstadoProceso.READY.ordinal();
+    private static final byte RUNNING = (byte) EstadoProceso.RUNNING.ordinal();
+    private static final byte TERMINATED = (byte) EstadoProceso.TERMINATED.ordinal();
+
+    static final int CPU_MIN = 5, CPU_MAX = 100;
+    static final int MEM_MIN = 10, MEM_MAX = 500;
+    private static final int SORTEOS_POR_TICK = 2;     // cpu y memoria (actualizarConsumoAleatorio)
+
+    int[] pid;
+    byte[] estado;
+    int[] prioridad;        // 1 = más alta (menor número)
+    int[] restante;         // ráfaga restante (ticks)
+    int[] rafagaTotal;      // ráfaga original
+    int[] llegada;
+    int[] primeraEjec;      // -1 si aún no ejecutó
+    int[] fin;              // -1 si no terminó
+    int[] ejecucion;        // ticks en RUNNING
+    int[] espera;           // ticks en READY ya liquidados
+    int[] listoDesde;       // primer tick de espera aún sin liquidar (si READY)
+    int[] cpu;              // 0..100
+    int[] memoria;          // MB
+    int[] nucleo;           // cola de listos (núcleo) que lo contiene
+    String[] nombre;        // null = "P" + pid, hasta que se pida
+    long[] flujo;           // clave del flujo aleatorio del proceso
+    long[] paso;            // valores ya consumidos de ese flujo
+    Proceso[] vista;
+
+    private int tamano;             // slots usados alguna vez (incluye libres)
+    private int[] libres = new int[16];
+    private int nLibres;
+    private int[] vivos;            // slots vivos, densos
+    private int[] posVivo;          // slot -> posición en vivos, -1 si libre
+    private int nVivos;
+    private final IndicePid porPid;
+    private final GeneradorAleatorio generador;
+
+    // Cambios visibles (estado, cpu, memoria, restante) desde la última
+    // recolección; solo se rastrean si alguien publica deltas
+    private boolean rastrearCambios;
+    private boolean marcasDiferidas;
+    private boolean[] sucio;
+    private boolean[] publicado;    // ya salió en algún delta
+    private int[] sucios;
+    private int nSucios;
+    private int[] retirados = new int[16];
+    private int nRetirados;
+
+    // Último tick completo. La espera de un READY se liquida de forma
+    // perezosa: listoDesde..tickCerrado, sin recorrer la cola en cada tick.
+    private int tickCerrado;
+
+    public TablaProcesos(int capacidadInicial) {
+        this(capacidadInicial, SplitMix64.INSTANCIA);
+    }
+
+    public TablaProcesos(int capacidadInicial, GeneradorAleatorio generador) {
+        this.generador = Objects.requireNonNull(generador);
+        int c = Math.max(1, capacidadInicial);
+        pid = new int[c];
+        estado = new byte[c];
+        prioridad = new int[c];
+        restante = new int[c];
+        rafagaTotal = new int[c];
+        llegada = new int[c];
+        primeraEjec = new int[c];
+        fin = new int[c];
+        ejecucion = new int[c];
+        espera = new int[c];
+        listoDesde = new int[c];
+        cpu = new int[c];
+        memoria = new int[c];
+        nucleo = new int[c];
+        nombre = new String[c];
+        flujo = new long[c];
+        paso = new long[c];
+        vista = new Proceso[c];
+        vivos = new int[c];
+        posVivo = new int[c];
+        porPid = new IndicePid(c);
+        sucio = new boolean[c];
+        publicado = new boolean[c];
+        sucios = new int[c];
+    }
+
+    /**
+     * Da de alta un proceso en estado NEW y devuelve su slot. Los pid de los
+     * procesos vivos deben ser únicos. Su flujo aleatorio sale de (semilla, pid).
+     */
+    public int alta(int pid, String nombre, int tiempoLlegada, int rafagaInicial, int prioridad, long semilla) {
+        if (rafagaInicial <= 0) {
+            throw new IllegalArgumentException("rafagaInicial debe ser > 0");
+        }
+        int s = reservar(pid);
+        this.nombre[s] = esNombrePorDefecto(nombre, pid) ? null : nombre;
+        this.estado[s] = (byte) EstadoProceso.NEW.ordinal();
+        this.prioridad[s] = (prioridad <= 0) ? 1 : prioridad;
+        this.restante[s] = rafagaInicial;
+        this.rafagaTotal[s] = rafagaInicial;
+        this.llegada[s] = tiempoLlegada;
+        this.primeraEjec[s] = -1;
+        this.fin[s] = -1;
+        this.ejecucion[s] = 0;
+        this.espera[s] = 0;
+        this.nucleo[s] = 0;
+        this.flujo[s] = generador.flujo(semilla, pid);
+        this.paso[s] = 0;
+
+        this.cpu[s] = randBetween(s, CPU_MIN, 30); // 5..30% al inicio
+        this.memoria[s] = randBetween(s, MEM_MIN, 200); // 10..200 MB al inicio
+
+        this.vista[s] = new Proceso(this, s);
+        this.publicado[s] = false;
+        marcar(s);
+        return s;
+    }
+
+    private int reservar(int pidNuevo) {
+        int s;
+        if (nLibres > 0) {
+            s = libres[--nLibres];
+        } else {
+            if (tamano == pid.length) {
+                crecer();
+            }
+            s = tamano++;
+        }
+        pid[s] = pidNuevo;
+        posVivo[s] = nVivos;
+        vivos[nVivos++] = s;
+        porPid.put(pidNuevo, s);
+        return s;
+    }
+
+    /**
+     * Saca el slot del conjunto vivo y lo deja para reutilizar. La vista que
+     * lo representaba se desprende con una copia inmutable de la fila, así
+     * que quien aún la tenga sigue leyendo valores coherentes.
+     */
+    public void retirar(int s) {
+        int pos = posVivo[s];
+        if (pos < 0) {
+            return;
+        }
+        int ultimo = vivos[--nVivos];
+        vivos[pos] = ultimo;
+        posVivo[ultimo] = pos;
+        posVivo[s] = -1;
+        if (porPid.get(pid[s]) == s) {
+            porPid.remove(pid[s]);
+        }
+        if (publicado[s]) {
+            publicado[s] = false;
+            if (nRetirados == retirados.length) {
+                retirados = Arrays.copyOf(retirados, nRetirados * 2);
+            }
+            retirados[nRetirados++] = pid[s];
+        }
+
+        vista[s].desprender(new Proceso.Retirado(pid[s], nombre[s], ESTADOS[estado[s]], prioridad[s],
+                restante[s], rafagaTotal[s], llegada[s], primeraEjec[s], fin[s], ejecucion[s],
+                espera(s), cpu[s], memoria[s]));
+
+        nombre[s] = null;
+        vista[s] = null;
+        if (nLibres == libres.length) {
+            libres = Arrays.copyOf(libres, nLibres * 2);
+        }
+        libres[nLibres++] = s;
+    }
+
+    public interface ReceptorCambios {
+
+        void cambiado(int slot);
+
+        void retirado(int pid);
+    }
+
+    /**
+     * Activa o desactiva el rastreo de cambios. Al activarlo todos los vivos
+     * cuentan como cambiados, así la primera recolección es completa.
+     */
+    public void setRastrearCambios(boolean activo) {
+        for (int i = 0; i < nSucios; i++) {
+            sucio[sucios[i]] = false;
+        }
+        nSucios = 0;
+        nRetirados = 0;
+        Arrays.fill(publicado, false);
+        rastrearCambios = activo;
+        if (activo) {
+            for (int i = 0; i < nVivos; i++) {
+                marcar(vivos[i]);
+            }
+        }
+    }
+
+    /**
+     * Entrega los pid retirados y los slots vivos que cambiaron desde la
+     * recolección anterior, y empieza una nueva.
+     */
+    public void recolectarCambios(ReceptorCambios r) {
+        for (int i = 0; i < nRetirados; i++) {
+            r.retirado(retirados[i]);
+        }
+        nRetirados = 0;
+        for (int i = 0; i < nSucios; i++) {
+            int s = sucios[i];
+            sucio[s] = false;
+            if (posVivo[s] >= 0 && estado[s] != TERMINATED) {
+                publicado[s] = true;
+                r.cambiado(s);
+            }
+        }
+        nSucios = 0;
+    }
+
+    /**
+     * Con {@code true} las transiciones no anotan cambios, para que varios
+     * hilos puedan avanzar procesos distintos a la vez; quien lo activa anota
+     * después, desde un solo hilo, los procesos tocados con {@link #marcar(Proceso)}.
+     */
+    public void setMarcasDiferidas(boolean diferir) {
+        this.marcasDiferidas = diferir;
+    }
+
+    public void marcar(Proceso p) {
+        if (p != null && p.tabla == this) {
+            anotar(p.slot);
+        }
+    }
+
+    private void marcar(int s) {
+        if (!marcasDiferidas) {
+            anotar(s);
+        }
+    }
+
+    private void anotar(int s) {
+        if (rastrearCambios && !sucio[s]) {
+            sucio[s] = true;
+            sucios[nSucios++] = s;
+        }
+    }
+
+    public void retirar(Proceso p) {
+        if (p != null && p.tabla == this) {
+            retirar(p.slot);
+        }
+    }
+
+    /**
+     * Cantidad de slots vivos (dados de alta y no retirados).
+     */
+    public int vivos() {
+        return nVivos;
+    }
+
+    /**
+     * Slot del i-ésimo proceso vivo, 0 <= i < vivos(). El orden cambia al
+     * retirar.
+     */
+    public int slotVivo(int i) {
+        return vivos[i];
+    }
+
+    public Proceso vista(int slot) {
+        return vista[slot];
+    }
+
+    public int pid(int slot) {
+        return pid[slot];
+    }
+
+    public EstadoProceso estado(int slot) {
+        return ESTADOS[estado[slot]];
+    }
+
+    public String nombre(int slot) {
+        String n = nombre[slot];
+        if (n == null) {
+            // se materializa solo si alguien lo pide (UI, snapshot)
+            n = "P" + pid[slot];
+            nombre[slot] = n;
+        }
+        return n;
+    }
+
+    public int prioridad(int slot) {
+        return prioridad[slot];
+    }
+
+    public int restante(int slot) {
+        return restante[slot];
+    }
+
+    public int cpu(int slot) {
+        return cpu[slot];
+    }
+
+    public int memoria(int slot) {
+        return memoria[slot];
+    }
+
+    public int nucleo(Proceso p) {
+        return (p.tabla == this) ? nucleo[p.slot] : 0;
+    }
+
+    public void asignarNucleo(Proceso p, int n) {
+        if (p.tabla == this) {
+            nucleo[p.slot] = n;
+        }
+    }
+
+    /**
+     * Espera total, incluida la pendiente de liquidar si está READY.
+     */
+    public int espera(int slot) {
+        int e = espera[slot];
+        if (estado[slot] == READY) {
+            e += Math.max(0, tickCerrado - listoDesde[slot] + 1);
+        }
+        return e;
+    }
+
+    /**
+     * Marca el tick como completo: cada READY cuenta como esperando en él
+     * salvo que haya dejado READY antes. O(1), sin importar la cola.
+     */
+    public void cerrarTick(int tick) {
+        tickCerrado = tick;
+    }
+
+    public boolean terminado(int slot) {
+        return estado[slot] == TERMINATED;
+    }
+
+    /**
+     * Slot del proceso vivo con ese pid que no haya terminado, o -1. O(1).
+     */
+    public int buscarActivo(int pidBuscado) {
+        int s = porPid.get(pidBuscado);
+        return (s >= 0 && estado[s] != TERMINATED) ? s : -1;
+    }
+
+    public int contarActivos() {
+        int n = 0;
+        for (int i = 0; i < nVivos; i++) {
+            if (estado[vivos[i]] != TERMINATED) {
+                n++;
+            }
+        }
+        return n;
+    }
+
+    // --- transiciones por slot (Proceso delega aquí) ---
+    void avanzarTick(int s, int tickActual) {
+        switch (ESTADOS[estado[s]]) {
+            case RUNNING -> {
+                if (primeraEjec[s] < 0) {
+                    primeraEjec[s] = tickActual;
+                }
+
+                restante[s] = Math.max(0, restante[s] - 1);
+                ejecucion[s]++;
+                marcar(s);
+                actualizarConsumoAleatorio(s);
+
+                if (restante[s] == 0) {
+                    estado[s] = TERMINATED;
+                    cpu[s] = 0;
+                    memoria[s] = 0;
+                    fin[s] = tickActual;
+                }
+            }
+            case READY -> {
+                espera[s]++;
+                cpu[s] = 0;
+                marcar(s);
+            }
+            case BLOCKED -> {
+                cpu[s] = 0;
+            }
+            default -> {
+                // NEW/TERMINATED: nada
+            }
+        }
+    }
+
+    void avanzarTicks(int s, int n, int tickFinal) {
+        if (n <= 0) {
+            return;
+        }
+        if (estado[s] != RUNNING || n >= restante[s]) {
+            throw new IllegalStateException("avanzarTicks requiere RUNNING y n < rafaga restante");
+        }
+        if (primeraEjec[s] < 0) {
+            primeraEjec[s] = tickFinal - n + 1;
+        }
+        restante[s] -= n;
+        ejecucion[s] += n;
+        marcar(s);
+        // cada tick en RUNNING consume dos valores del flujo: se saltan los de
+        // los n - 1 ticks previos y se muestrea el último, como tick a tick
+        paso[s] += (long) SORTEOS_POR_TICK * (n - 1);
+        actualizarConsumoAleatorio(s);
+    }
+
+    void cambiarEstado(int s, EstadoProceso nuevo) {
+        byte previo = estado[s];
+        byte sig = (byte) nuevo.ordinal();
+        if (previo == READY && sig != READY) {
+            liquidarEspera(s);
+        } else if (previo != READY && sig == READY) {
+            // quien ejecutó en el tick en curso no espera en él
+            listoDesde[s] = (previo == RUNNING) ? tickCerrado + 2 : tickCerrado + 1;
+        }
+        estado[s] = sig;
+        marcar(s);
+        if (nuevo == EstadoProceso.READY) {
+            cpu[s] = 0;
+        }
+    }
+
+    void forzarTerminar(int s, int tickActual) {
+        if (estado[s] == READY) {
+            liquidarEspera(s);
+        }
+        estado[s] = TERMINATED;
+        restante[s] = 0;
+        cpu[s] = 0;
+        memoria[s] = 0;
+        fin[s] = tickActual;
+        marcar(s);
+    }
+
+    private void liquidarEspera(int s) {
+        espera[s] += Math.max(0, tickCerrado - listoDesde[s] + 1);
+    }
+
+    private void actualizarConsumoAleatorio(int s) {
+        cpu[s] = clamp(randBetween(s, CPU_MIN, CPU_MAX), 0, 100);
+        memoria[s] = clamp(randBetween(s, MEM_MIN, MEM_MAX), 0, 2048);
+    }
+
+    private int randBetween(int s, int a, int b) {
+        if (a > b) {
+            int t = a;
+            a = b;
+            b = t;
+        }
+        return generador.entre(flujo[s], paso[s]++, a, b);
+    }
+
+    private static int clamp(int v, int lo, int hi) {
+        return Math.max(lo, Math.min(hi, v));
+    }
+
+    // "P" + pid se reconstruye al leer; no hace falta guardarlo
+    private static boolean esNombrePorDefecto(String nombre, int pid) {
+        if (nombre == null) {
+            return true;
+        }
+        if (nombre.length() < 2 || nombre.charAt(0) != 'P' || pid < 0) {
+            return false;
+        }
+        long v = 0;
+        for (int i = 1; i < nombre.length(); i++) {
+            char c = nombre.charAt(i);
+            if (c < '0' || c > '9' || (i == 1 && c == '0' && nombre.length() > 2)) {
+                return false;
+            }
+            v = v * 10 + (c - '0');
+            if (v > Integer.MAX_VALUE) {
+                return false;
+            }
+        }
+        return v == pid;
+    }
+
+    /**
+     * Vuelca las filas vivas, en orden de recorrido, y el último tick cerrado.
+     */
+    public void escribir(DataOutput out) throws IOException {
+        out.writeInt(tickCerrado);
+        out.writeInt(nVivos);
+        for (int i = 0; i < nVivos; i++) {
+            int s = vivos[i];
+            out.writeInt(pid[s]);
+            out.writeByte(estado[s]);
+            out.writeInt(prioridad[s]);
+            out.writeInt(restante[s]);
+            out.writeInt(rafagaTotal[s]);
+            out.writeInt(llegada[s]);
+            out.writeInt(primeraEjec[s]);
+            out.writeInt(fin[s]);
+            out.writeInt(ejecucion[s]);
+            out.writeInt(espera[s]);
+            out.writeInt(listoDesde[s]);
+            out.writeInt(cpu[s]);
+            out.writeInt(memoria[s]);
+            out.writeInt(nucleo[s]);
+            out.writeLong(flujo[s]);
+            out.writeLong(paso[s]);
+            out.writeBoolean(nombre[s] != null);
+            if (nombre[s] != null) {
+                out.writeUTF(nombre[s]);
+            }
+        }
+    }
+
+    /**
+     * Carga en esta tabla, que debe estar vacía, filas escritas con
+     * {@link #escribir}. Quedan en el mismo orden de recorrido.
+     */
+    public void leer(DataInput in) throws IOException {
+        if (nVivos > 0) {
+            throw new IllegalStateException("La tabla no está vacía");
+        }
+        tickCerrado = in.readInt();
+        int n = in.readInt();
+        for (int i = 0; i < n; i++) {
+            int s = reservar(in.readInt());
+            estado[s] = in.readByte();
+            if (estado[s] < 0 || estado[s] >= ESTADOS.length) {
+                throw new IOException("Estado de proceso inválido: " + estado[s]);
+            }
+            prioridad[s] = in.readInt();
+            restante[s] = in.readInt();
+            rafagaTotal[s] = in.readInt();
+            llegada[s] = in.readInt();
+            primeraEjec[s] = in.readInt();
+            fin[s] = in.readInt();
+            ejecucion[s] = in.readInt();
+            espera[s] = in.readInt();
+            listoDesde[s] = in.readInt();
+            cpu[s] = in.readInt();
+            memoria[s] = in.readInt();
+            nucleo[s] = in.readInt();
+            flujo[s] = in.readLong();
+            paso[s] = in.readLong();
+            nombre[s] = in.readBoolean() ? in.readUTF() : null;
+            vista[s] = new Proceso(this, s);
+            publicado[s] = false;
+            marcar(s);
+        }
+    }
+
+    private void crecer() {
+        int c = pid.length * 2;
+        pid = Arrays.copyOf(pid, c);
+        estado = Arrays.copyOf(estado, c);
+        prioridad = Arrays.copyOf(prioridad, c);
+        restante = Arrays.copyOf(restante, c);
+        rafagaTotal = Arrays.copyOf(rafagaTotal, c);
+        llegada = Arrays.copyOf(llegada, c);
+        primeraEjec = Arrays.copyOf(primeraEjec, c);
+        fin = Arrays.copyOf(fin, c);
+        ejecucion = Arrays.copyOf(ejecucion, c);
+        espera = Arrays.copyOf(espera, c);
+        listoDesde = Arrays.copyOf(listoDesde, c);
+        cpu = Arrays.copyOf(cpu, c);
+        memoria = Arrays.copyOf(memoria, c);
+        nucleo = Arrays.copyOf(nucleo, c);
+        nombre = Arrays.copyOf(nombre, c);
+        flujo = Arrays.copyOf(flujo, c);
+        paso = Arrays.copyOf(paso, c);
+        vista = Arrays.copyOf(vista, c);
+        vivos = Arrays.copyOf(vivos, c);
+        posVivo = Arrays.copyOf(posVivo, c);
+        sucio = Arrays.copyOf(sucio, c);
+        publicado = Arrays.copyOf(publicado, c);
+        sucios = Arrays.copyOf(sucios, c);
+    }
+}
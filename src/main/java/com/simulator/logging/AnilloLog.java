@@ -0,0 +1,110 @@
+package com.simulator.logging;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Buffer circular acotado de varios productores y un consumidor, con las
+ * entradas reservadas de antemano (no se asigna nada por registro).
+ * <p>
+ * Cada celda lleva un número de secuencia: vale {@code pos} cuando está libre
+ * para el productor que reservó {@code pos}, {@code pos + 1} cuando ya está
+ * publicada y {@code pos + capacidad} cuando el consumidor la liberó.
+ */
+final class AnilloLog {
+
+    static final class Entrada {
+
+        Instant timestamp;
+        LogNivel nivel;
+        LogEvento evento;
+        LogDatos datos;
+    }
+
+    private final int mascara;
+    private final Entrada[] entradas;
+    private final AtomicLongArray secuencia;
+    private final AtomicLong cola = new AtomicLong();
+    private long cabeza;        // solo el consumidor
+
+    AnilloLog(int capacidadPedida) {
+        int capacidad = Integer.highestOneBit(capacidadPedida - 1) << 1;
+        this.mascara = capacidad - 1;
+        this.entradas = new Entrada[capacidad];
+        this.secuencia = new AtomicLongArray(capacidad);
+        for (int i = 0; i < capacidad; i++) {
+            entradas[i] = new Entrada();
+            secuencia.set(i, i);
+        }
+    }
+
+    int capacidad() {
+        return entradas.length;
+    }
+
+    /**
+     * Reserva una posición para escribir, o -1 si el buffer está lleno.
+     */
+    long reservar() {
+        long pos = cola.get();
+        for (;;) {
+            long dif = secuencia.get((int) pos & mascara) - pos;
+            if (dif == 0) {
+                if (cola.compareAndSet(pos, pos + 1)) {
+                    return pos;
+                }
+                pos = cola.get();
+            } else if (dif < 0) {
+                return -1;
+            } else {
+                pos = cola.get();
+            }
+        }
+    }
+
+    Entrada entrada(long pos) {
+        return entradas[(int) pos & mascara];
+    }
+
+    void publicar(long pos) {
+        secuencia.set((int) pos & mascara, pos + 1);
+    }
+
+    /**
+     * Posiciones reservadas hasta ahora (la siguiente a reservar).
+     */
+    long reservadas() {
+        return cola.get();
+    }
+
+    /**
+     * Si {@code pos} está publicada y el consumidor aún no la liberó.
+     */
+    boolean sinConsumir(long pos) {
+        return secuencia.get((int) pos & mascara) == pos + 1;
+    }
+
+    // --- consumidor ---
+
+    /**
+     * La siguiente entrada publicada, o null si no hay.
+     */
+    Entrada siguiente() {
+        int i = (int) cabeza & mascara;
+        return secuencia.get(i) == cabeza + 1 ? entradas[i] : null;
+    }
+
+    long consumidas() {
+        return cabeza;
+    }
+
+    void liberar() {
+        int i = (int) cabeza & mascara;
+        Entrada e = entradas[i];
+        e.timestamp = null;
+        e.datos = null;
+        secuencia.set(i, cabeza + entradas.length);
+        cabeza++;
+    }
+}
@@ -0,0 +1,29 @@
+package com.simulator.logging;
+
+/**
+ * Parámetros del modo asíncrono de {@link LoggerSistema}.
+ */
+public final class ConfigAsincrona {
+
+    public final int capacidad;            // entradas del buffer (se redondea a potencia de 2)
+    public final Contrapresion contrapresion;
+    public final int muestreo;             // 1 de cada N con MUESTREAR
+    public final int lineasPorVaciado;     // flush tras esta cantidad de líneas...
+    public final long msPorVaciado;        // ...o tras este tiempo con líneas pendientes
+
+    public ConfigAsincrona(int capacidad, Contrapresion contrapresion, int muestreo,
+            int lineasPorVaciado, long msPorVaciado) {
+        if (capacidad < 2 || muestreo < 1 || lineasPorVaciado < 1 || msPorVaciado < 0) {
+            throw new IllegalArgumentException("Parámetros asíncronos inválidos");
+        }
+        this.capacidad = capacidad;
+        this.contrapresion = contrapresion == null ? Contrapresion.BLOQUEAR : contrapresion;
+        this.muestreo = muestreo;
+        this.lineasPorVaciado = lineasPorVaciado;
+        this.msPorVaciado = msPorVaciado;
+    }
+
+    public static ConfigAsincrona porDefecto() {
+        return new ConfigAsincrona(1 << 14, Contrapresion.BLOQUEAR, 16, 4096, 200);
+    }
+}
@@ -0,0 +1,13 @@
+package com.simulator.logging;
+
+/**
+ * Qué hace el modo asíncrono cuando el buffer está lleno.
+ */
+public enum Contrapresion {
+    /** El productor espera a que haya lugar. */
+    BLOQUEAR,
+    /** TRACE, DEBUG e INFO se descartan; WARN y ERROR esperan. */
+    DESCARTAR_INFO,
+    /** De TRACE a INFO solo espera uno de cada N; el resto se descarta. WARN y ERROR esperan. */
+    MUESTREAR
+}
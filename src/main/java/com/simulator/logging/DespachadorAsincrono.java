@@ -0,0 +1,202 @@
+package com.simulator.logging;
+
+import com.simulator.logging.format.LogFormatter;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Modo asíncrono de {@link LoggerSistema}: los productores solo copian el
+ * registro al {@link AnilloLog}; un hilo propio lo vacía por lotes, formatea,
+ * escribe y hace flush según el presupuesto de líneas o de tiempo.
+ */
+final class DespachadorAsincrono implements Runnable {
+
+    private static final long ESPERA_LLENO_NS = TimeUnit.MICROSECONDS.toNanos(50);
+
+    private final AnilloLog anillo;
+    private final ConfigAsincrona cfg;
+    private final LogWriter writer;
+    private final LogFormatter formatter;
+    private final Thread hilo;
+
+    private final AtomicLong descartados = new AtomicLong();
+    private final AtomicLong intentosMuestreo = new AtomicLong();
+    private volatile boolean durmiendo;
+    private volatile boolean cerrando;
+    private volatile boolean ultimaPasada;  // el consumidor ya hace su último vaciado
+    private volatile boolean detenido;      // y ya lo terminó
+
+    DespachadorAsincrono(ConfigAsincrona cfg, LogWriter writer, LogFormatter formatter) {
+        this.anillo = new AnilloLog(cfg.capacidad);
+        this.cfg = cfg;
+        this.writer = writer;
+        this.formatter = formatter;
+        this.hilo = new Thread(this, "logger-asincrono");
+        this.hilo.setDaemon(true);
+    }
+
+    void iniciar() {
+        hilo.start();
+    }
+
+    /**
+     * Desde cualquier hilo. Devuelve false si el registro se descartó.
+     */
+    boolean publicar(Instant ts, LogNivel nivel, LogEvento evento, LogDatos datos) {
+        if (ultimaPasada) {
+            descartados.incrementAndGet();
+            return false;
+        }
+        long pos = anillo.reservar();
+        if (pos < 0) {
+            if (!debeEsperar(nivel)) {
+                descartados.incrementAndGet();
+                return false;
+            }
+            while ((pos = anillo.reservar()) < 0) {
+                if (cerrando) {
+                    descartados.incrementAndGet();
+                    return false;
+                }
+                despertar();
+                LockSupport.parkNanos(ESPERA_LLENO_NS);
+            }
+        }
+        AnilloLog.Entrada e = anillo.entrada(pos);
+        e.timestamp = ts;
+        e.nivel = nivel;
+        e.evento = evento;
+        e.datos = datos;
+        anillo.publicar(pos);
+        if (ultimaPasada) {
+            // publicado y luego visto el cierre: el último vaciado pudo no verlo
+            while (!detenido) {
+                LockSupport.parkNanos(ESPERA_LLENO_NS);
+            }
+            if (anillo.sinConsumir(pos)) {
+                descartados.incrementAndGet();
+                return false;
+            }
+            return true;
+        }
+        if (durmiendo) {
+            despertar();
+        }
+        return true;
+    }
+
+    /**
+     * Incluye los publicados cuando el cierre ya había hecho su último
+     * vaciado, así que al cerrar ningún registro se pierde sin contarse.
+     */
+    long descartados() {
+        return descartados.get();
+    }
+
+    /**
+     * Vacía todo lo publicado hasta ahora y detiene el hilo.
+     */
+    void cerrar() throws InterruptedException {
+        cerrando = true;
+        despertar();
+        hilo.join();
+    }
+
+    private boolean debeEsperar(LogNivel nivel) {
+        if (nivel.ordinal() >= LogNivel.WARN.ordinal()) {
+            return true;
+        }
+        return switch (cfg.contrapresion) {
+            case BLOQUEAR -> true;
+            case DESCARTAR_INFO -> false;
+            case MUESTREAR -> intentosMuestreo.getAndIncrement() % cfg.muestreo == 0;
+        };
+    }
+
+    private void despertar() {
+        LockSupport.unpark(hilo);
+    }
+
+    @Override
+    public void run() {
+        long plazoNs = TimeUnit.MILLISECONDS.toNanos(cfg.msPorVaciado);
+        int pendientes = 0;
+        long primeraPendiente = 0;
+        long avisados = 0;
+        for (;;) {
+            boolean fin = cerrando;     // leer antes de vaciar: lo publicado antes del cierre entra
+            AnilloLog.Entrada e;
+            while ((e = anillo.siguiente()) != null) {
+                escribir(new LogMeta(e.timestamp, e.nivel, e.evento), e.datos);
+                anillo.liberar();
+                if (pendientes++ == 0) {
+                    primeraPendiente = System.nanoTime();
+                }
+                if (pendientes >= cfg.lineasPorVaciado) {
+                    vaciar();
+                    pendientes = 0;
+                }
+            }
+            long perdidos = descartados.get();
+            if (perdidos != avisados) {
+                escribir(new LogMeta(Instant.now(), LogNivel.WARN, LogEvento.ERROR),
+                        new LogDatos(null, null, null, null, null, null,
+                                "descartados=" + (perdidos - avisados) + " por contrapresion"));
+                avisados = perdidos;
+                if (pendientes++ == 0) {
+                    primeraPendiente = System.nanoTime();
+                }
+            }
+            if (fin) {
+                ultimaPasada = true;
+                // lo reservado antes de marcar la última pasada entra aunque
+                // aún no esté publicado; lo reservado después lo cuenta publicar
+                long hasta = anillo.reservadas();
+                while (anillo.consumidas() < hasta) {
+                    if ((e = anillo.siguiente()) == null) {
+                        Thread.onSpinWait();
+                        continue;
+                    }
+                    escribir(new LogMeta(e.timestamp, e.nivel, e.evento), e.datos);
+                    anillo.liberar();
+                }
+                vaciar();
+                detenido = true;
+                return;
+            }
+            long espera = plazoNs;
+            if (pendientes > 0) {
+                espera = plazoNs - (System.nanoTime() - primeraPendiente);
+                if (espera <= 0) {
+                    vaciar();
+                    pendientes = 0;
+                    continue;
+                }
+            }
+            durmiendo = true;
+            if (anillo.siguiente() == null && !cerrando) {
+                LockSupport.parkNanos(this, Math.max(espera, 1));
+            }
+            durmiendo = false;
+        }
+    }
+
+    private void escribir(LogMeta meta, LogDatos datos) {
+        try {
+            writer.escribir(meta, datos, formatter);
+        } catch (Exception ex) {
+            System.err.println("[LoggerSistema] Error al escribir: " + ex.getMessage());
+        }
+    }
+
+    private void vaciar() {
+        try {
+            writer.vaciar();
+        } catch (Exception ex) {
+            System.err.println("[LoggerSistema] Error al vaciar: " + ex.getMessage());
+        }
+    }
+}
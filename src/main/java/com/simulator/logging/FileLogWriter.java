@@ -1,9 +1,13 @@
 package com.simulator.logging;
 
+import com.simulator.logging.format.LogFormatter;
 import com.simulator.logging.rotate.PoliticaRotacion;
 
 import java.io.BufferedWriter;
+import java.io.FilterOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
 import java.nio.charset.Charset;
 import java.nio.file.*;
 
@@ -13,6 +17,9 @@ public final class FileLogWriter implements LogWriter {
     private BufferedWriter out;
     private PoliticaRotacion rotacion;
     private Charset charset;
+    private Contador contador;
+    private final StringBuilder linea = new StringBuilder(192);   // reutilizados entre registros
+    private char[] chars = new char[192];
 
     @Override
     public void abrir(LogConfig config) throws Exception {
@@ -20,23 +27,52 @@ public final class FileLogWriter implements LogWriter {
         this.rotacion = config.politicaRotacion;
         this.charset = config.charset;
         ensureParentDir(archivoActual);
-        out = Files.newBufferedWriter(archivoActual,
-                charset,
+        long previos = config.append && Files.exists(archivoActual) ? Files.size(archivoActual) : 0;
+        abrirArchivo(previos,
                 config.append ? new OpenOption[]{StandardOpenOption.CREATE, StandardOpenOption.APPEND}
                 : new OpenOption[]{StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING});
     }
 
     @Override
     public void escribir(String linea) throws Exception {
-        if (rotacion != null && rotacion.debeRotar(archivoActual)) {
+        rotarSiCorresponde();
+        out.write(linea);
+        out.newLine();
+    }
+
+    @Override
+    public void escribir(LogMeta meta, LogDatos datos, LogFormatter formatter) throws Exception {
+        rotarSiCorresponde();
+        linea.setLength(0);
+        formatter.formatear(meta, datos, linea);
+        int n = linea.length();
+        if (n > chars.length) {
+            chars = new char[Math.max(n, chars.length * 2)];
+        }
+        // Writer.append(CharSequence) haría toString(): se copia al buffer propio
+        linea.getChars(0, n, chars, 0);
+        out.write(chars, 0, n);
+        out.newLine();
+    }
+
+    private void rotarSiCorresponde() throws Exception {
+        // el contador va por debajo de los buffers: puede atrasarse unos KB
+        if (rotacion != null && rotacion.debeRotar(archivoActual, contador.bytes)) {
             // cerrar, rotar, reabrir
             out.flush();
             out.close();
             rotacion.rotar(archivoActual);
-            out = Files.newBufferedWriter(archivoActual, charset, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            abrirArchivo(0, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
         }
-        out.write(linea);
-        out.newLine();
+    }
+
+    private void abrirArchivo(long previos, OpenOption... opciones) throws IOException {
+        contador = new Contador(Files.newOutputStream(archivoActual, opciones), previos);
+        out = new BufferedWriter(new OutputStreamWriter(contador, charset.newEncoder()));
+    }
+
+    @Override
+    public void vaciar() throws Exception {
         out.flush();
     }
 
@@ -54,6 +90,29 @@ public final class FileLogWriter implements LogWriter {
         }
     }
 
+    // bytes que llegan al archivo, sin consultar el sistema de archivos
+    private static final class Contador extends FilterOutputStream {
+
+        long bytes;
+
+        Contador(OutputStream out, long previos) {
+            super(out);
+            this.bytes = previos;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            bytes++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            bytes += len;
+        }
+    }
+
     private void ensureParentDir(Path p) throws IOException {
         Path parent = p.getParent();
         if (parent != null && !Files.exists(parent)) {
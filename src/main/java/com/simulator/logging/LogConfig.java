@@ -4,6 +4,9 @@ import com.simulator.logging.rotate.PoliticaRotacion;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
 
 public final class LogConfig {
 
@@ -12,13 +15,53 @@ public final class LogConfig {
     public final boolean append;
     public final LogNivel nivelMinimo;
     public final PoliticaRotacion politicaRotacion;
+    public final ConfigAsincrona asincrona;     // null = síncrono
+    public final Map<LogEvento, LogNivel> nivelPorEvento;   // pisa a nivelMinimo para ese evento
 
     public LogConfig(Path rutaBase, Charset charset, boolean append, LogNivel nivelMinimo, PoliticaRotacion politicaRotacion) {
+        this(rutaBase, charset, append, nivelMinimo, politicaRotacion, null);
+    }
+
+    public LogConfig(Path rutaBase, Charset charset, boolean append, LogNivel nivelMinimo,
+            PoliticaRotacion politicaRotacion, ConfigAsincrona asincrona) {
+        this(rutaBase, charset, append, nivelMinimo, politicaRotacion, asincrona, Map.of());
+    }
+
+    public LogConfig(Path rutaBase, Charset charset, boolean append, LogNivel nivelMinimo,
+            PoliticaRotacion politicaRotacion, ConfigAsincrona asincrona, Map<LogEvento, LogNivel> nivelPorEvento) {
         this.rutaBase = rutaBase;
         this.charset = charset == null ? StandardCharsets.UTF_8 : charset;
         this.append = append;
         this.nivelMinimo = nivelMinimo == null ? LogNivel.INFO : nivelMinimo;
         this.politicaRotacion = politicaRotacion;
+        this.asincrona = asincrona;
+        this.nivelPorEvento = nivelPorEvento.isEmpty()
+                ? Map.of() : Collections.unmodifiableMap(new EnumMap<>(nivelPorEvento));
+    }
+
+    public LogConfig conAsincrona(ConfigAsincrona asincrona) {
+        return new LogConfig(rutaBase, charset, append, nivelMinimo, politicaRotacion, asincrona, nivelPorEvento);
+    }
+
+    public LogConfig conNivelMinimo(LogNivel nivelMinimo) {
+        return new LogConfig(rutaBase, charset, append, nivelMinimo, politicaRotacion, asincrona, nivelPorEvento);
+    }
+
+    /**
+     * Nivel mínimo propio de un evento (p.ej. EJECUTAR_TICK solo desde WARN).
+     */
+    public LogConfig conNivel(LogEvento evento, LogNivel nivel) {
+        Map<LogEvento, LogNivel> m = new EnumMap<>(LogEvento.class);
+        m.putAll(nivelPorEvento);
+        m.put(evento, nivel);
+        return new LogConfig(rutaBase, charset, append, nivelMinimo, politicaRotacion, asincrona, m);
+    }
+
+    /**
+     * Si un registro de ese evento y nivel pasa el filtro.
+     */
+    public boolean acepta(LogEvento evento, LogNivel nivel) {
+        return nivel.ordinal() >= nivelPorEvento.getOrDefault(evento, nivelMinimo).ordinal();
     }
 
     public static LogConfig basica(Path rutaBase, PoliticaRotacion rot) {
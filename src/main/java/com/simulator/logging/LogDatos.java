@@ -8,21 +8,112 @@ public final class LogDatos {
     public final Integer mem;       // MB, null si no aplica
     public final String algoritmo;  // FCFS, SJF, RR, PRIORIDAD o null
     public final Integer quantum;   // RR o nul
-    public final String detalle;    // texto libre
+
+    // detalle: texto libre, o plantilla con "{}" que se completa recién al
+    // escribir (nArgs > 0), para no concatenar en eventos que se filtran
+    private final String plantilla;
+    private final int nArgs;
+    private final long arg1, arg2;
+    private String detalle;
 
     public LogDatos(Integer pid, String estado, Integer cpu, Integer mem,
             String algoritmo, Integer quatum, String detalle) {
+        this(pid, estado, cpu, mem, algoritmo, quatum, detalle, 0, 0, 0);
+    }
+
+    /**
+     * Detalle diferido: {@code plantilla} con un "{}" por argumento.
+     */
+    public LogDatos(Integer pid, String estado, Integer cpu, Integer mem,
+            String algoritmo, Integer quatum, String plantilla, long arg1) {
+        this(pid, estado, cpu, mem, algoritmo, quatum, plantilla, 1, arg1, 0);
+    }
+
+    public LogDatos(Integer pid, String estado, Integer cpu, Integer mem,
+            String algoritmo, Integer quatum, String plantilla, long arg1, long arg2) {
+        this(pid, estado, cpu, mem, algoritmo, quatum, plantilla, 2, arg1, arg2);
+    }
+
+    private LogDatos(Integer pid, String estado, Integer cpu, Integer mem,
+            String algoritmo, Integer quatum, String plantilla, int nArgs, long arg1, long arg2) {
         this.pid = pid;
         this.estado = estado;
         this.cpu = cpu;
         this.mem = mem;
         this.algoritmo = algoritmo;
         this.quantum = quatum;
-        this.detalle = detalle == null ? "" : detalle;
+        this.plantilla = plantilla == null ? "" : plantilla;
+        this.nArgs = nArgs;
+        this.arg1 = arg1;
+        this.arg2 = arg2;
+        if (nArgs == 0) {
+            this.detalle = this.plantilla;
+        }
     }
 
     public static LogDatos vacio() {
         return new LogDatos(null, null, null, null, null, null, "");
     }
 
+    /**
+     * El detalle sin completar: texto libre si {@link #nArgs()} es 0.
+     */
+    public String plantilla() {
+        return plantilla;
+    }
+
+    public int nArgs() {
+        return nArgs;
+    }
+
+    /**
+     * Argumento {@code i} (0 o 1) de la plantilla.
+     */
+    public long arg(int i) {
+        return i == 0 ? arg1 : arg2;
+    }
+
+    /**
+     * Mismo detalle diferido que {@code plantilla}/{@code args}, con los demás
+     * campos dados; para quien decodifica registros (log binario).
+     */
+    public static LogDatos conArgs(Integer pid, String estado, Integer cpu, Integer mem,
+            String algoritmo, Integer quantum, String plantilla, int nArgs, long arg1, long arg2) {
+        if (nArgs < 0 || nArgs > 2) {
+            throw new IllegalArgumentException("nArgs fuera de rango: " + nArgs);
+        }
+        return new LogDatos(pid, estado, cpu, mem, algoritmo, quantum, plantilla, nArgs, arg1, arg2);
+    }
+
+    /**
+     * Texto del detalle (con la plantilla ya completada); nunca null.
+     */
+    public String detalle() {
+        if (detalle == null) {
+            StringBuilder sb = new StringBuilder(plantilla.length() + 16);
+            detalle(sb);
+            detalle = sb.toString();
+        }
+        return detalle;
+    }
+
+    /**
+     * Agrega el detalle a {@code out} sin crear el String intermedio.
+     */
+    public void detalle(StringBuilder out) {
+        if (detalle != null) {
+            out.append(detalle);
+            return;
+        }
+        int desde = 0;
+        for (int i = 0; i < nArgs; i++) {
+            int k = plantilla.indexOf("{}", desde);
+            if (k < 0) {
+                break;
+            }
+            out.append(plantilla, desde, k).append(i == 0 ? arg1 : arg2);
+            desde = k + 2;
+        }
+        out.append(plantilla, desde, plantilla.length());
+    }
 }
@@ -1,10 +1,38 @@
 package com.simulator.logging;
 
+import com.simulator.logging.format.LogFormatter;
+
 public interface LogWriter {
 
     void abrir(LogConfig config) throws Exception;
 
+    /**
+     * Una línea ya formateada. Un writer que solo guarda registros
+     * estructurados (el binario) la rechaza con UnsupportedOperationException.
+     */
     void escribir(String linea) throws Exception;
 
+    /**
+     * Cabecera del archivo. Un writer binario puede ignorar la de texto.
+     */
+    default void escribirCabecera(LogFormatter formatter) throws Exception {
+        escribir(formatter.cabecera());
+        escribir(formatter.separador());
+    }
+
+    /**
+     * Un registro. Por defecto se formatea como texto; un writer binario lo
+     * codifica directamente, sin pasar por el formatter.
+     */
+    default void escribir(LogMeta meta, LogDatos datos, LogFormatter formatter) throws Exception {
+        escribir(formatter.formatear(meta, datos));
+    }
+
+    /**
+     * Fuerza lo escrito hasta ahora; {@link LoggerSistema} decide cuándo.
+     */
+    default void vaciar() throws Exception {
+    }
+
     void cerrar() throws Exception;
 }
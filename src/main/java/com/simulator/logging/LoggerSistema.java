@@ -4,6 +4,12 @@ import com.simulator.logging.format.LogFormatter;
 import com.simulator.time.Reloj;
 import java.util.concurrent.locks.ReentrantLock;
 
+/**
+ * Síncrono por defecto: formatea y escribe (con flush) bajo un lock en el
+ * hilo que registra. Con {@link LogConfig#asincrona} el registro solo se
+ * encola y un hilo propio escribe por lotes; {@link #finalizar()} vacía lo
+ * pendiente antes de cerrar.
+ */
 public final class LoggerSistema {
 
     private final ReentrantLock lock = new ReentrantLock();
@@ -11,7 +17,12 @@ public final class LoggerSistema {
     private LogFormatter formatter;
     private LogConfig config;
     private Reloj reloj;
-    private boolean iniciado = false;
+    private volatile boolean iniciado = false;
+    private volatile DespachadorAsincrono asincrono;   // null en modo síncrono
+
+    // [evento * niveles + nivel]; vacío mientras no está iniciado
+    private static final boolean[] NADA = new boolean[0];
+    private volatile boolean[] habilitados = NADA;
 
     public LoggerSistema() {
     }
@@ -22,14 +33,20 @@ public final class LoggerSistema {
             if (iniciado) {
                 return;
             }
+            this.asincrono = null;
             this.config = config;
             this.writer = writer;
             this.formatter = formatter;
             this.reloj = reloj;
             writer.abrir(config);
-            writer.escribir(formatter.cabecera());
-            writer.escribir(formatter.separador());
+            writer.escribirCabecera(formatter);
+            writer.vaciar();
+            if (config.asincrona != null) {
+                asincrono = new DespachadorAsincrono(config.asincrona, writer, formatter);
+                asincrono.iniciar();
+            }
             iniciado = true;
+            habilitados = tablaFiltro(config);
         } catch (Exception e) {
             System.err.println("[LoggerSistema] Error al iniciar: " + e.getMessage());
             iniciado = false;
@@ -44,6 +61,12 @@ public final class LoggerSistema {
             if (!iniciado) {
                 return;
             }
+            iniciado = false;
+            habilitados = NADA;
+            if (asincrono != null) {
+                // queda referenciado: cuenta lo que se publique tarde (getDescartados)
+                asincrono.cerrar();
+            }
             writer.cerrar();
         } catch (Exception e) {
             System.err.println("[LoggerSistema] Error al cerrar: " + e.getMessage());
@@ -53,22 +76,60 @@ public final class LoggerSistema {
         }
     }
 
+    /**
+     * Registros perdidos en modo asíncrono: por contrapresión o por llegar
+     * cuando {@link #finalizar()} ya había vaciado la cola.
+     */
+    public long getDescartados() {
+        DespachadorAsincrono a = asincrono;
+        return a == null ? 0 : a.descartados();
+    }
+
+    /**
+     * Si un registro de ese nivel y evento se escribiría. Sin lock ni
+     * asignaciones: sirve para no armar el {@link LogDatos} de un evento
+     * filtrado (o de un logger sin iniciar).
+     */
+    public boolean isEnabled(LogNivel nivel, LogEvento evento) {
+        boolean[] h = habilitados;
+        int i = evento.ordinal() * NIVELES.length + nivel.ordinal();
+        return i < h.length && h[i];
+    }
+
     public void registrar(LogEvento evento, LogNivel nivel, LogDatos datos) {
+        if (!isEnabled(nivel, evento)) {
+            return;
+        }
+        DespachadorAsincrono a = asincrono;
+        if (a != null) {
+            a.publicar(reloj.ahora(), nivel, evento, datos);
+            return;
+        }
         lock.lock();
         try {
             if (!iniciado) {
                 return;
             }
-            if (nivel.ordinal() < config.nivelMinimo.ordinal()) {
-                return;
-            }
             LogMeta meta = new LogMeta(reloj.ahora(), nivel, evento);
-            String linea = formatter.formatear(meta, datos);
-            writer.escribir(linea);
+            writer.escribir(meta, datos, formatter);
+            writer.vaciar();
         } catch (Exception e) {
             System.err.println("[LoggerSistema] Error al escribir: " + e.getMessage());
         } finally {
             lock.unlock();
         }
     }
+
+    private static final LogNivel[] NIVELES = LogNivel.values();
+
+    private static boolean[] tablaFiltro(LogConfig config) {
+        LogEvento[] eventos = LogEvento.values();
+        boolean[] t = new boolean[eventos.length * NIVELES.length];
+        for (LogEvento e : eventos) {
+            for (LogNivel n : NIVELES) {
+                t[e.ordinal() * NIVELES.length + n.ordinal()] = config.acepta(e, n);
+            }
+        }
+        return t;
+    }
 }
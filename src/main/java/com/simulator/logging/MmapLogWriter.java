@@ -0,0 +1,240 @@
+package com.simulator.logging;
+
+import com.simulator.logging.format.LogFormatter;
+import com.simulator.logging.rotate.PoliticaRotacion;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link LogWriter} que codifica las líneas directo en una ventana
+ * {@code MappedByteBuffer} de tamaño fijo, preasignada en el archivo.
+ * <p>
+ * Al llenarse la ventana se preasigna y mapea la siguiente; la política de
+ * rotación se consulta con los bytes llevados en memoria, sin stat. Lo
+ * escrito queda en la caché de páginas apenas se copia, así que sobrevive a
+ * la caída del proceso; {@link #force()} (periódico desde {@link #vaciar()}
+ * o explícito) lo baja a disco. Al cerrar se trunca al
+ * tamaño lógico; tras una caída, {@link #abrir} encuentra la cola buscando
+ * el último byte distinto de cero de la zona preasignada.
+ */
+public final class MmapLogWriter implements LogWriter {
+
+    private final long tamVentana;
+    private final long forceNs;
+
+    private Path archivoActual;
+    private PoliticaRotacion rotacion;
+    private CharsetEncoder encoder;
+    private byte[] finLinea;
+
+    private FileChannel canal;
+    private MappedByteBuffer ventana;
+    private long baseVentana;         // offset en el archivo de la ventana actual
+    private long ultimoForce;
+
+    private final StringBuilder linea = new StringBuilder(192);
+    private char[] chars = new char[192];
+    private CharBuffer charBuf = CharBuffer.wrap(chars);
+
+    public MmapLogWriter() {
+        this(8L << 20, 1000);
+    }
+
+    /**
+     * @param msForce cada cuánto {@link #vaciar()} fuerza a disco; 0 = solo
+     *                con {@link #force()} y al cerrar
+     */
+    public MmapLogWriter(long tamVentana, long msForce) {
+        if (tamVentana < 4096 || tamVentana > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("tamVentana fuera de rango: " + tamVentana);
+        }
+        this.tamVentana = tamVentana;
+        this.forceNs = msForce <= 0 ? Long.MAX_VALUE : TimeUnit.MILLISECONDS.toNanos(msForce);
+    }
+
+    @Override
+    public void abrir(LogConfig config) throws Exception {
+        this.archivoActual = config.rutaBase;
+        this.rotacion = config.politicaRotacion;
+        this.encoder = config.charset.newEncoder();
+        this.finLinea = System.lineSeparator().getBytes(config.charset);
+        Path parent = archivoActual.getParent();
+        if (parent != null && !Files.exists(parent)) {
+            Files.createDirectories(parent);
+        }
+        // sin truncar, lo viejo quedaría tras la cola hasta un cerrar() limpio
+        // y una recuperación posterior lo tomaría como propio
+        abrirCanal(!config.append);
+        long fin = config.append ? recuperarCola() : 0;
+        mapear(fin);
+        if (fin > 0 && byteEn(fin - 1) != '\n') {
+            // línea cortada por una caída: se cierra para no pegarle la siguiente
+            ventana.put(finLinea);
+        }
+        ultimoForce = System.nanoTime();
+    }
+
+    @Override
+    public void escribir(String s) throws Exception {
+        linea.setLength(0);
+        linea.append(s);
+        escribirLinea();
+    }
+
+    @Override
+    public void escribir(LogMeta meta, LogDatos datos, LogFormatter formatter) throws Exception {
+        linea.setLength(0);
+        formatter.formatear(meta, datos, linea);
+        escribirLinea();
+    }
+
+    /**
+     * Solo fuerza a disco si venció el intervalo: llamarlo por línea es barato.
+     * Cerrado no hace nada, como {@link #cerrar()}.
+     */
+    @Override
+    public void vaciar() throws Exception {
+        if (ventana != null && System.nanoTime() - ultimoForce >= forceNs) {
+            force();
+        }
+    }
+
+    public void force() {
+        verificarAbierto();
+        ventana.force();
+        ultimoForce = System.nanoTime();
+    }
+
+    /**
+     * Bytes escritos en el archivo actual.
+     */
+    public long tamanoLogico() {
+        verificarAbierto();
+        return baseVentana + ventana.position();
+    }
+
+    @Override
+    public void cerrar() throws Exception {
+        if (canal == null) {
+            return;
+        }
+        try {
+            ventana.force();
+            canal.truncate(tamanoLogico());
+        } finally {
+            ventana = null;
+            canal.close();
+            canal = null;
+        }
+    }
+
+    private void escribirLinea() throws Exception {
+        verificarAbierto();
+        if (rotacion != null && rotacion.debeRotar(archivoActual, tamanoLogico())) {
+            rotar();
+        }
+        int n = linea.length();
+        if (n > chars.length) {
+            chars = new char[Math.max(n, chars.length * 2)];
+            charBuf = CharBuffer.wrap(chars);
+        }
+        linea.getChars(0, n, chars, 0);
+        for (int intento = 0; ; intento++) {
+            int inicio = ventana.position();
+            charBuf.clear().limit(n);
+            encoder.reset();
+            CoderResult r = encoder.encode(charBuf, ventana, true);
+            if (!r.isOverflow()) {
+                r = encoder.flush(ventana);
+            }
+            if (!r.isOverflow() && ventana.remaining() >= finLinea.length) {
+                if (r.isError()) {
+                    r.throwException();
+                }
+                ventana.put(finLinea);
+                return;
+            }
+            // no entró: se borra lo parcial (la cola se detecta por ceros) y se mapea la siguiente
+            for (int i = inicio, fin = ventana.position(); i < fin; i++) {
+                ventana.put(i, (byte) 0);
+            }
+            ventana.position(inicio);
+            if (intento > 0) {
+                throw new IllegalArgumentException("Línea más larga que la ventana del log (" + tamVentana + " B)");
+            }
+            mapear(tamanoLogico());
+        }
+    }
+
+    private void verificarAbierto() {
+        if (ventana == null) {
+            throw new IllegalStateException("MmapLogWriter no está abierto: " + archivoActual);
+        }
+    }
+
+    private void rotar() throws Exception {
+        cerrar();
+        rotacion.rotar(archivoActual);
+        abrirCanal(true);
+        mapear(0);
+    }
+
+    private void abrirCanal(boolean truncar) throws IOException {
+        canal = truncar
+                ? FileChannel.open(archivoActual, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                        StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)
+                : FileChannel.open(archivoActual, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                        StandardOpenOption.WRITE);
+    }
+
+    // preasigna y mapea [desde, desde + tamVentana)
+    private void mapear(long desde) throws IOException {
+        if (ventana != null) {
+            ventana.force();
+        }
+        long fin = desde + tamVentana;
+        if (canal.size() < fin) {
+            // escribir el último byte extiende con ceros (sparse donde el FS lo soporta)
+            canal.write(ByteBuffer.wrap(new byte[1]), fin - 1);
+        }
+        ventana = canal.map(FileChannel.MapMode.READ_WRITE, desde, tamVentana);
+        baseVentana = desde;
+    }
+
+    // último byte no nulo + 1; lo que sigue es preasignación sin usar
+    private long recuperarCola() throws IOException {
+        long tam = canal.size();
+        ByteBuffer b = ByteBuffer.allocate(1 << 16);
+        long hasta = tam;
+        while (hasta > 0) {
+            long desde = Math.max(0, hasta - b.capacity());
+            b.clear().limit((int) (hasta - desde));
+            while (b.hasRemaining() && canal.read(b, desde + b.position()) >= 0) {
+                // lee la ventana completa
+            }
+            for (int i = b.position() - 1; i >= 0; i--) {
+                if (b.get(i) != 0) {
+                    return desde + i + 1;
+                }
+            }
+            hasta = desde;
+        }
+        return 0;
+    }
+
+    private byte byteEn(long pos) throws IOException {
+        ByteBuffer b = ByteBuffer.allocate(1);
+        canal.read(b, pos);
+        return b.get(0);
+    }
+}
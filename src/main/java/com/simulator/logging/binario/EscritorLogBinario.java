@@ -0,0 +1,248 @@
+package com.simulator.logging.binario;
+
+import com.simulator.logging.LogConfig;
+import com.simulator.logging.LogDatos;
+import com.simulator.logging.LogMeta;
+import com.simulator.logging.LogWriter;
+import com.simulator.logging.format.LogFormatter;
+import com.simulator.logging.rotate.PoliticaRotacion;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.OpenOption;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import static com.simulator.logging.binario.FormatoLogBinario.*;
+
+/**
+ * {@link LogWriter} que codifica cada registro en {@link FormatoLogBinario}
+ * sin formatear texto. {@link LectorLogBinario} lo vuelve a mostrar con el
+ * layout de tabla.
+ */
+public final class EscritorLogBinario implements LogWriter {
+
+    private Path archivoActual;
+    private PoliticaRotacion rotacion;
+    private OutputStream out;
+    private long bytesEscritos;
+
+    private final Map<String, Integer> cadenas = new HashMap<>();
+    private int[] huecos = new int[64];     // "{}" de cada cadena interna (hasta 2), por id
+    private long ultimoMs;
+    private byte[] buf = new byte[256];
+    private int n;
+
+    /**
+     * Si la ruta usa la extensión del formato binario.
+     */
+    public static boolean esBinario(Path ruta) {
+        return ruta.getFileName().toString().endsWith(EXTENSION);
+    }
+
+    @Override
+    public void abrir(LogConfig config) throws Exception {
+        this.archivoActual = config.rutaBase;
+        this.rotacion = config.politicaRotacion;
+        Path parent = archivoActual.getParent();
+        if (parent != null && !Files.exists(parent)) {
+            Files.createDirectories(parent);
+        }
+        if (config.append) {
+            recortarCola();
+        }
+        abrirSegmento(config.append
+                ? new OpenOption[]{StandardOpenOption.CREATE, StandardOpenOption.APPEND}
+                : new OpenOption[]{StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE});
+    }
+
+    @Override
+    public void escribirCabecera(LogFormatter formatter) {
+        // la cabecera de texto la genera el lector
+    }
+
+    /**
+     * No hay texto libre en el formato: ver {@link LogWriter#escribir(String)}.
+     */
+    @Override
+    public void escribir(String linea) {
+        throw new UnsupportedOperationException("El log binario solo acepta registros estructurados");
+    }
+
+    @Override
+    public void escribir(LogMeta meta, LogDatos d, LogFormatter formatter) throws Exception {
+        if (rotacion != null && rotacion.debeRotar(archivoActual, bytesEscritos)) {
+            out.flush();
+            out.close();
+            rotacion.rotar(archivoActual);
+            abrirSegmento(new OpenOption[]{StandardOpenOption.CREATE, StandardOpenOption.APPEND});
+        }
+        int mascara = (d.pid != null ? PID : 0)
+                | (d.estado != null ? ESTADO : 0)
+                | (d.cpu != null ? CPU : 0)
+                | (d.mem != null ? MEM : 0)
+                | (d.algoritmo != null ? ALGORITMO : 0)
+                | (d.quantum != null ? QUANTUM : 0)
+                | (!d.plantilla().isEmpty() ? DETALLE : 0);
+        int nArgs = argsUsados(d);
+        if (nArgs > 0) {
+            mascara |= ARGS;
+        }
+        long ms = meta.timestamp().toEpochMilli();
+
+        n = 0;
+        byteCrudo(meta.evento().ordinal() * NIVELES + meta.nive().ordinal() | (nArgs == 2 ? DOS_ARGS : 0));
+        byteCrudo(mascara);
+        varint(zigzag(ms - ultimoMs));
+        ultimoMs = ms;
+        if (d.pid != null) {
+            varint(zigzag(d.pid));
+        }
+        if (d.estado != null) {
+            cadena(d.estado);
+        }
+        if (d.cpu != null) {
+            varint(zigzag(d.cpu));
+        }
+        if (d.mem != null) {
+            varint(zigzag(d.mem));
+        }
+        if (d.algoritmo != null) {
+            cadena(d.algoritmo);
+        }
+        if (d.quantum != null) {
+            varint(zigzag(d.quantum));
+        }
+        if ((mascara & DETALLE) != 0) {
+            // la plantilla se repite; el texto completado no, y llenaría la tabla
+            cadena(d.plantilla());
+        }
+        for (int i = 0; i < nArgs; i++) {
+            varint(zigzag(d.arg(i)));
+        }
+        out.write(buf, 0, n);
+        bytesEscritos += n;
+    }
+
+    @Override
+    public void vaciar() throws Exception {
+        out.flush();
+    }
+
+    @Override
+    public void cerrar() throws Exception {
+        if (out != null) {
+            try {
+                out.flush();
+            } catch (IOException ignored) {
+            }
+            try {
+                out.close();
+            } catch (IOException ignored) {
+            }
+        }
+    }
+
+    // un registro cortado por una caída absorbería la cabecera del segmento
+    // siguiente al decodificar: el nuevo empieza justo tras el último completo
+    private void recortarCola() throws IOException {
+        if (!Files.exists(archivoActual)) {
+            return;
+        }
+        long fin;
+        try {
+            fin = LectorLogBinario.finValido(archivoActual);
+        } catch (IOException ilegible) {
+            return;     // no es nuestro o ya está dañado en el medio: no se toca
+        }
+        try (FileChannel canal = FileChannel.open(archivoActual, StandardOpenOption.WRITE)) {
+            if (fin < canal.size()) {
+                canal.truncate(fin);
+            }
+        }
+    }
+
+    private void abrirSegmento(OpenOption[] opciones) throws IOException {
+        bytesEscritos = Files.exists(archivoActual) && Arrays.asList(opciones).contains(StandardOpenOption.APPEND)
+                ? Files.size(archivoActual) : 0;
+        out = new BufferedOutputStream(Files.newOutputStream(archivoActual, opciones), 1 << 16);
+        cadenas.clear();
+        ultimoMs = 0;
+        out.write(SEGMENTO);
+        out.write(MAGIC);
+        out.write(VERSION);
+        bytesEscritos += 2 + MAGIC.length;
+    }
+
+    private void cadena(String s) {
+        Integer id = cadenas.get(s);
+        if (id != null) {
+            varint(id + 1L);
+            return;
+        }
+        if (cadenas.size() < MAX_CADENAS) {
+            int nuevo = cadenas.size();
+            cadenas.put(s, nuevo);
+            if (nuevo == huecos.length) {
+                huecos = Arrays.copyOf(huecos, nuevo * 2);
+            }
+            huecos[nuevo] = contarHuecos(s);
+        }
+        byte[] b = s.getBytes(StandardCharsets.UTF_8);
+        varint(0);
+        varint(b.length);
+        asegurar(b.length);
+        System.arraycopy(b, 0, buf, n, b.length);
+        n += b.length;
+    }
+
+    // solo viajan los argumentos que la plantilla muestra (p.ej. el núcleo
+    // con un solo núcleo no); el lector completa con esos mismos
+    private int argsUsados(LogDatos d) {
+        if (d.nArgs() == 0) {
+            return 0;
+        }
+        Integer id = cadenas.get(d.plantilla());
+        int h = id != null ? huecos[id] : contarHuecos(d.plantilla());
+        return Math.min(h, d.nArgs());
+    }
+
+    private static int contarHuecos(String s) {
+        int h = 0;
+        for (int k = s.indexOf("{}"); k >= 0 && h < 2; k = s.indexOf("{}", k + 2)) {
+            h++;
+        }
+        return h;
+    }
+
+    private void byteCrudo(int v) {
+        asegurar(1);
+        buf[n++] = (byte) v;
+    }
+
+    private void varint(long v) {
+        asegurar(10);
+        while ((v & ~0x7FL) != 0) {
+            buf[n++] = (byte) ((v & 0x7F) | 0x80);
+            v >>>= 7;
+        }
+        buf[n++] = (byte) v;
+    }
+
+    private static long zigzag(long v) {
+        return (v << 1) ^ (v >> 63);
+    }
+
+    private void asegurar(int extra) {
+        if (n + extra > buf.length) {
+            buf = Arrays.copyOf(buf, Math.max(buf.length * 2, n + extra));
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.simulator.logging.binario;
+
+/**
+ * Formato binario compacto del log. El archivo es una sucesión de segmentos;
+ * cada segmento empieza con su cabecera y reinicia el estado del decodificador
+ * (así un append o una rotación no dependen de lo anterior):
+ * <pre>
+ * cabecera: 0xFE | "SLGB" | versión byte
+ * registro: evento * 5 + nivel (+ 0x80 si trae 2 args) (byte) | máscara
+ *           (byte) | Δms zigzag-varint | pid | estado | cpu | mem | algoritmo
+ *           | quantum | detalle | args
+ * </pre>
+ * Solo van los campos cuyo bit está en la máscara. Con ARGS el detalle es
+ * una plantilla con "{}" y le siguen uno o dos argumentos (según el bit 0x80
+ * del primer byte); el lector los completa al mostrar. Los enteros son varints
+ * zigzag. Las cadenas son un varint {@code k}: {@code k > 0} referencia la
+ * cadena k-1 ya vista; {@code 0} va seguido de longitud y UTF-8, y la cadena
+ * se interna si la tabla no está llena. Δms es relativo al registro anterior
+ * del segmento (al 0 en el primero).
+ */
+final class FormatoLogBinario {
+
+    static final String EXTENSION = ".slg";
+
+    static final int SEGMENTO = 0xFE;
+    static final byte[] MAGIC = {'S', 'L', 'G', 'B'};
+    static final int VERSION = 2;     // 1: sin ARGS
+    static final int NIVELES = 5;
+    static final int MAX_CADENAS = 1 << 16;
+
+    static final int PID = 1;
+    static final int ESTADO = 1 << 1;
+    static final int CPU = 1 << 2;
+    static final int MEM = 1 << 3;
+    static final int ALGORITMO = 1 << 4;
+    static final int QUANTUM = 1 << 5;
+    static final int DETALLE = 1 << 6;
+    static final int ARGS = 1 << 7;
+
+    // en el primer byte; 0xFE (SEGMENTO) no es registro mientras
+    // eventos * niveles no llegue a 0x7E
+    static final int DOS_ARGS = 0x80;
+
+    private FormatoLogBinario() {
+    }
+}
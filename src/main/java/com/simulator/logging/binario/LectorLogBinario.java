@@ -0,0 +1,241 @@
+package com.simulator.logging.binario;
+
+import com.simulator.logging.LogDatos;
+import com.simulator.logging.LogEvento;
+import com.simulator.logging.LogMeta;
+import com.simulator.logging.LogNivel;
+import com.simulator.logging.format.LogFormatter;
+import com.simulator.logging.format.TablaFijaFormatter;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedWriter;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+import static com.simulator.logging.binario.FormatoLogBinario.*;
+
+/**
+ * Decodifica un log en {@link FormatoLogBinario}. Un registro cortado al
+ * final (p.ej. un proceso que murió a mitad de escritura) se ignora; al
+ * reabrir en modo append, {@link EscritorLogBinario} lo recorta antes de
+ * empezar el segmento nuevo.
+ */
+public final class LectorLogBinario {
+
+    private static final LogEvento[] EVENTOS = LogEvento.values();
+    private static final LogNivel[] NIVELES_LOG = LogNivel.values();
+
+    private final Path archivo;
+
+    public LectorLogBinario(Path archivo) {
+        this.archivo = archivo;
+    }
+
+    /**
+     * Entrega los registros en orden. Devuelve cuántos leyó.
+     */
+    public long leer(BiConsumer<LogMeta, LogDatos> destino) throws IOException {
+        return recorrer(destino, new long[1]);
+    }
+
+    /**
+     * Bytes desde el inicio hasta el fin del último registro (o cabecera)
+     * completo; lo que sigue, si hay algo, es un registro cortado.
+     */
+    static long finValido(Path archivo) throws IOException {
+        long[] fin = new long[1];
+        new LectorLogBinario(archivo).recorrer((meta, datos) -> {
+        }, fin);
+        return fin[0];
+    }
+
+    private long recorrer(BiConsumer<LogMeta, LogDatos> destino, long[] fin) throws IOException {
+        long leidos = 0;
+        try (Contador cont = new Contador(new BufferedInputStream(Files.newInputStream(archivo), 1 << 16));
+                DataInputStream in = new DataInputStream(cont)) {
+            List<String> cadenas = new ArrayList<>();
+            long ultimoMs = 0;
+            boolean enSegmento = false;
+            int b;
+            while ((b = in.read()) >= 0) {
+                if (b == SEGMENTO) {
+                    byte[] magic = new byte[MAGIC.length];
+                    int version;
+                    try {
+                        in.readFully(magic);
+                        version = in.readUnsignedByte();
+                    } catch (EOFException cortado) {
+                        break;
+                    }
+                    if (!Arrays.equals(magic, MAGIC) || version < 1 || version > VERSION) {
+                        throw new IOException("No es un log binario v" + VERSION + ": " + archivo);
+                    }
+                    cadenas.clear();
+                    ultimoMs = 0;
+                    enSegmento = true;
+                    fin[0] = cont.leidos;
+                    continue;
+                }
+                int nArgs = (b & DOS_ARGS) != 0 ? 2 : 1;
+                b &= ~DOS_ARGS;
+                if (!enSegmento || b / NIVELES >= EVENTOS.length) {
+                    throw new IOException("Log binario corrupto en el registro " + (leidos + 1));
+                }
+                try {
+                    int mascara = in.readUnsignedByte();
+                    ultimoMs += unzigzag(varint(in));
+                    Integer pid = (mascara & PID) != 0 ? (int) unzigzag(varint(in)) : null;
+                    String estado = (mascara & ESTADO) != 0 ? cadena(in, cadenas) : null;
+                    Integer cpu = (mascara & CPU) != 0 ? (int) unzigzag(varint(in)) : null;
+                    Integer mem = (mascara & MEM) != 0 ? (int) unzigzag(varint(in)) : null;
+                    String alg = (mascara & ALGORITMO) != 0 ? cadena(in, cadenas) : null;
+                    Integer q = (mascara & QUANTUM) != 0 ? (int) unzigzag(varint(in)) : null;
+                    String detalle = (mascara & DETALLE) != 0 ? cadena(in, cadenas) : "";
+                    if ((mascara & ARGS) == 0) {
+                        nArgs = 0;
+                    }
+                    long a1 = nArgs > 0 ? unzigzag(varint(in)) : 0;
+                    long a2 = nArgs > 1 ? unzigzag(varint(in)) : 0;
+                    destino.accept(new LogMeta(Instant.ofEpochMilli(ultimoMs), NIVELES_LOG[b % NIVELES], EVENTOS[b / NIVELES]),
+                            LogDatos.conArgs(pid, estado, cpu, mem, alg, q, detalle, nArgs, a1, a2));
+                    leidos++;
+                    fin[0] = cont.leidos;
+                } catch (EOFException cortado) {
+                    break;
+                }
+            }
+        }
+        return leidos;
+    }
+
+    /**
+     * Vuelca el log como texto con el formatter dado (cabecera incluida).
+     */
+    public long renderizar(LogFormatter formatter, Writer destino) throws IOException {
+        destino.write(formatter.cabecera());
+        destino.write(System.lineSeparator());
+        destino.write(formatter.separador());
+        destino.write(System.lineSeparator());
+        IOException[] error = new IOException[1];
+        long n = leer((meta, datos) -> {
+            if (error[0] != null) {
+                return;
+            }
+            try {
+                destino.write(formatter.formatear(meta, datos));
+                destino.write(System.lineSeparator());
+            } catch (IOException e) {
+                error[0] = e;
+            }
+        });
+        if (error[0] != null) {
+            throw error[0];
+        }
+        destino.flush();
+        return n;
+    }
+
+    private static String cadena(InputStream in, List<String> cadenas) throws IOException {
+        long k = varint(in);
+        if (k > 0) {
+            if (k > cadenas.size()) {
+                throw new IOException("Referencia a cadena inexistente: " + (k - 1));
+            }
+            return cadenas.get((int) (k - 1));
+        }
+        int largo = (int) varint(in);
+        byte[] b = in.readNBytes(largo);
+        if (b.length < largo) {
+            throw new EOFException();
+        }
+        String s = new String(b, StandardCharsets.UTF_8);
+        if (cadenas.size() < MAX_CADENAS) {
+            cadenas.add(s);
+        }
+        return s;
+    }
+
+    private static long varint(InputStream in) throws IOException {
+        long v = 0;
+        for (int desp = 0; desp < 64; desp += 7) {
+            int b = in.read();
+            if (b < 0) {
+                throw new EOFException();
+            }
+            v |= (long) (b & 0x7F) << desp;
+            if ((b & 0x80) == 0) {
+                return v;
+            }
+        }
+        throw new IOException("Varint demasiado largo");
+    }
+
+    private static long unzigzag(long v) {
+        return (v >>> 1) ^ -(v & 1);
+    }
+
+    // cuenta los bytes consumidos, para saber dónde termina cada registro
+    private static final class Contador extends FilterInputStream {
+
+        long leidos;
+
+        Contador(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                leidos++;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = super.read(b, off, len);
+            if (n > 0) {
+                leidos += n;
+            }
+            return n;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long s = super.skip(n);
+            leidos += s;
+            return s;
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1 || args.length > 2) {
+            System.err.println("Uso: LectorLogBinario <entrada.slg> [salida.log]");
+            System.exit(2);
+        }
+        var lector = new LectorLogBinario(Path.of(args[0]));
+        if (args.length == 2) {
+            try (Writer w = Files.newBufferedWriter(Path.of(args[1]), StandardCharsets.UTF_8)) {
+                long n = lector.renderizar(new TablaFijaFormatter(), w);
+                System.err.println(n + " registros escritos en " + args[1]);
+            }
+        } else {
+            Writer w = new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8));
+            lector.renderizar(new TablaFijaFormatter(), w);
+        }
+    }
+}
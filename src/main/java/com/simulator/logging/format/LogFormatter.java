@@ -10,4 +10,12 @@ public interface LogFormatter {
     String separador();
 
     String formatear(LogMeta meta, LogDatos datos);
+
+    /**
+     * Igual que {@link #formatear(LogMeta, LogDatos)} pero agrega la línea a
+     * {@code destino}, para quien reutiliza el buffer.
+     */
+    default void formatear(LogMeta meta, LogDatos datos, StringBuilder destino) {
+        destino.append(formatear(meta, datos));
+    }
 }
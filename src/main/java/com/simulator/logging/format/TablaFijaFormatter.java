@@ -3,15 +3,30 @@ package com.simulator.logging.format;
 import com.simulator.logging.LogDatos;
 import com.simulator.logging.LogMeta;
 
+import java.time.Instant;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 
+/**
+ * Columnas de ancho fijo escritas directo en un StringBuilder reutilizado
+ * (sin String.format ni boxing). El prefijo "yyyy-MM-dd HH:mm:ss." se
+ * formatea una vez por segundo y los milisegundos se agregan a mano.
+ * <p>
+ * No es thread-safe: cada logger usa su propia instancia.
+ */
 public final class TablaFijaFormatter implements LogFormatter {
 
     private static final DateTimeFormatter TS_FMT
             = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSS").withZone(ZoneId.systemDefault());
+    private static final DateTimeFormatter SEG_FMT
+            = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.").withZone(ZoneId.systemDefault());
+    private static final String SEP = " | ";
 
     private final TablaAnchos w = new TablaAnchos();
+    private final StringBuilder sb = new StringBuilder(192);
+
+    private long segundoCache = Long.MIN_VALUE;
+    private String prefijoCache;
 
     @Override
     public String cabecera() {
@@ -33,21 +48,88 @@ public final class TablaFijaFormatter implements LogFormatter {
 
     @Override
     public String formatear(LogMeta meta, LogDatos d) {
-        String ts = TS_FMT.format(meta.timestamp());
-        String evento = meta.evento().name();
-        String pid = d.pid == null ? "-" : String.valueOf(d.pid);
-        String estado = d.estado == null ? "-" : d.estado;
-        String cpu = d.cpu == null ? "-" : (d.cpu + "%");
-        String mem = d.mem == null ? "-" : (d.mem + "MB");
-        String alg = d.algoritmo == null ? "-" : d.algoritmo;
-        String q = d.quantum == null ? "-" : String.valueOf(d.quantum);
-        String detalle = d.detalle == null ? "" : d.detalle;
+        sb.setLength(0);
+        formatear(meta, d, sb);
+        return sb.toString();
+    }
 
-        return String.format("%-" + w.ts + "s | %-" + w.evento + "s | %"
-                + w.pid + "s | %-" + w.estado + "s | %"
-                + w.cpu + "s | %" + w.mem + "s | %-" + w.alg + "s | %"
-                + w.q + "s | %s",
-                ts, evento, pid, estado, cpu, mem, alg, q, detalle);
+    @Override
+    public void formatear(LogMeta meta, LogDatos d, StringBuilder out) {
+        int inicio = out.length();
+        timestamp(meta.timestamp(), out);
+        pad(out, w.ts - (out.length() - inicio));
+        out.append(SEP);
+        izquierda(out, meta.evento().name(), w.evento);
+        out.append(SEP);
+        derecha(out, d.pid, null, w.pid);
+        out.append(SEP);
+        izquierda(out, d.estado == null ? "-" : d.estado, w.estado);
+        out.append(SEP);
+        derecha(out, d.cpu, "%", w.cpu);
+        out.append(SEP);
+        derecha(out, d.mem, "MB", w.mem);
+        out.append(SEP);
+        izquierda(out, d.algoritmo == null ? "-" : d.algoritmo, w.alg);
+        out.append(SEP);
+        derecha(out, d.quantum, null, w.q);
+        out.append(SEP);
+        d.detalle(out);
+    }
+
+    private void timestamp(Instant ts, StringBuilder out) {
+        long segundo = ts.getEpochSecond();
+        if (segundo != segundoCache) {
+            String prefijo = SEG_FMT.format(ts);
+            // años de más de 4 cifras cambian el ancho: que lo resuelva el formatter
+            if (prefijo.length() != 20) {
+                out.append(TS_FMT.format(ts));
+                return;
+            }
+            segundoCache = segundo;
+            prefijoCache = prefijo;
+        }
+        out.append(prefijoCache);
+        int ms = ts.getNano() / 1_000_000;
+        out.append((char) ('0' + ms / 100)).append((char) ('0' + ms / 10 % 10)).append((char) ('0' + ms % 10));
+    }
+
+    private static void izquierda(StringBuilder out, String s, int ancho) {
+        out.append(s);
+        pad(out, ancho - s.length());
+    }
+
+    // entero alineado a la derecha con sufijo; null se muestra como "-"
+    private static void derecha(StringBuilder out, Integer v, String sufijo, int ancho) {
+        if (v == null) {
+            pad(out, ancho - 1);
+            out.append('-');
+            return;
+        }
+        int x = v;
+        int largo = digitos(x) + (sufijo == null ? 0 : sufijo.length());
+        pad(out, ancho - largo);
+        out.append(x);
+        if (sufijo != null) {
+            out.append(sufijo);
+        }
+    }
+
+    private static int digitos(int x) {
+        if (x == Integer.MIN_VALUE) {
+            return 11;
+        }
+        int n = x < 0 ? 2 : 1;
+        int a = Math.abs(x);
+        while (a >= 10) {
+            a /= 10;
+            n++;
+        }
+        return n;
     }
 
+    private static void pad(StringBuilder out, int n) {
+        for (int i = 0; i < n; i++) {
+            out.append(' ');
+        }
+    }
 }
@@ -0,0 +1,88 @@
+package com.simulator.logging.rotate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Desplazamiento de backups {@code .1 .. .N} (o {@code .1.gz .. .N.gz}) común
+ * a las políticas de rotación.
+ * <p>
+ * Con compresión, el archivo activo solo se renombra (rápido, en el hilo que
+ * escribe) y el desplazamiento más el gzip corren en un único hilo de fondo,
+ * en orden, así dos rotaciones seguidas no se pisan. El hilo no es daemon
+ * pero termina solo tras un segundo ocioso: la JVM espera a que se terminen
+ * de comprimir los pendientes antes de salir.
+ */
+final class Generaciones {
+
+    private static final ThreadPoolExecutor COMPRESOR = crearCompresor();
+
+    private Generaciones() {
+    }
+
+    static Future<?> rotar(Path archivo, int backups, boolean comprimir) throws IOException {
+        if (!Files.exists(archivo)) {
+            return null;
+        }
+        if (backups < 1) {
+            Files.delete(archivo);
+            return null;
+        }
+        if (!comprimir) {
+            desplazar(archivo, backups, "");
+            Files.move(archivo, backup(archivo, 1, ""), StandardCopyOption.REPLACE_EXISTING);
+            return null;
+        }
+        Path pendiente = archivo.resolveSibling(archivo.getFileName() + ".pendiente-" + System.nanoTime());
+        Files.move(archivo, pendiente, StandardCopyOption.ATOMIC_MOVE);
+        return COMPRESOR.submit(() -> {
+            try {
+                desplazar(archivo, backups, ".gz");
+                Path destino = backup(archivo, 1, ".gz");
+                Path tmp = destino.resolveSibling(destino.getFileName() + ".tmp");
+                try (InputStream in = Files.newInputStream(pendiente);
+                        OutputStream out = new GZIPOutputStream(Files.newOutputStream(tmp), 1 << 16)) {
+                    in.transferTo(out);
+                }
+                Files.move(tmp, destino, StandardCopyOption.REPLACE_EXISTING);
+                Files.delete(pendiente);
+            } catch (IOException e) {
+                // el segmento queda como .pendiente-*: no se pierde, solo no se comprimió
+                System.err.println("[Rotacion] Error al comprimir " + pendiente + ": " + e.getMessage());
+            }
+        });
+    }
+
+    // .(backups-1) -> .backups, ..., .1 -> .2; el más viejo se descarta
+    private static void desplazar(Path archivo, int backups, String sufijo) throws IOException {
+        for (int i = backups - 1; i >= 1; i--) {
+            Path src = backup(archivo, i, sufijo);
+            if (Files.exists(src)) {
+                Files.move(src, backup(archivo, i + 1, sufijo), StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+    }
+
+    private static Path backup(Path archivo, int i, String sufijo) {
+        return archivo.resolveSibling(archivo.getFileName() + "." + i + sufijo);
+    }
+
+    private static ThreadPoolExecutor crearCompresor() {
+        var ex = new ThreadPoolExecutor(1, 1, 1, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), r -> {
+            Thread t = new Thread(r, "log-compresor");
+            t.setDaemon(false);
+            return t;
+        });
+        ex.allowCoreThreadTimeOut(true);
+        return ex;
+    }
+}
@@ -6,5 +6,13 @@ public interface PoliticaRotacion {
 
     boolean debeRotar(Path archivoActual) throws Exception;
 
+    /**
+     * Variante con los bytes que el writer lleva escritos en el archivo
+     * actual, para no consultar el sistema de archivos en cada línea.
+     */
+    default boolean debeRotar(Path archivoActual, long bytesEscritos) throws Exception {
+        return debeRotar(archivoActual);
+    }
+
     Path rotar(Path archivoActual) throws Exception;
 }
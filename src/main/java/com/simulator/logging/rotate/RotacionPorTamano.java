@@ -6,10 +6,20 @@ public final class RotacionPorTamano implements PoliticaRotacion {
 
     private final long tamMaxBytes;
     private final int backups;
+    private final boolean comprimir;
 
     public RotacionPorTamano(long tamMaxBytes, int backups) {
+        this(tamMaxBytes, backups, false);
+    }
+
+    /**
+     * @param comprimir los backups quedan como {@code .N.gz}, comprimidos en
+     *                  segundo plano
+     */
+    public RotacionPorTamano(long tamMaxBytes, int backups, boolean comprimir) {
         this.tamMaxBytes = tamMaxBytes;
         this.backups = backups;
+        this.comprimir = comprimir;
     }
 
     @Override
@@ -21,21 +31,13 @@ public final class RotacionPorTamano implements PoliticaRotacion {
     }
 
     @Override
-    public Path rotar(Path archivoActual) throws Exception {
-        if (!Files.exists(archivoActual)) {
-            return archivoActual;
-        }
+    public boolean debeRotar(Path archivoActual, long bytesEscritos) {
+        return bytesEscritos >= tamMaxBytes;
+    }
 
-        // Desplazar backups: .(backups-1) -> .backups, ..., .1 -> .2
-        for (int i = backups - 1; i >= 11; i--) {
-            Path src = Path.of(archivoActual.toString() + "." + i);
-            Path dst = Path.of(archivoActual.toString() + "." + (i + 1));
-            if (Files.exists(src)) {
-                Files.move(src, dst, StandardCopyOption.REPLACE_EXISTING);
-            }
-        }
-        Path dst1 = Path.of(archivoActual.toString() + ".1");
-        Files.move(archivoActual, dst1, StandardCopyOption.REPLACE_EXISTING);
+    @Override
+    public Path rotar(Path archivoActual) throws Exception {
+        Generaciones.rotar(archivoActual, backups, comprimir);
         return archivoActual; // el nuevo archivo activo tendra el nombre base
     }
 }
@@ -0,0 +1,78 @@
+package com.simulator.logging.rotate;
+
+import com.simulator.time.Reloj;
+import com.simulator.time.RelojDelSistema;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Rota al cruzar cada múltiplo de {@code intervalo} desde la época (p.ej. un
+ * día UTC). Un archivo con contenido de un período anterior (de otra
+ * ejecución) se rota en la primera escritura.
+ */
+public final class RotacionPorTiempo implements PoliticaRotacion {
+
+    private final long intervaloMs;
+    private final int backups;
+    private final boolean comprimir;
+    private final Reloj reloj;
+    private long proximoCorte = Long.MIN_VALUE;
+
+    public RotacionPorTiempo(Duration intervalo, int backups, boolean comprimir) {
+        this(intervalo, backups, comprimir, new RelojDelSistema());
+    }
+
+    public RotacionPorTiempo(Duration intervalo, int backups, boolean comprimir, Reloj reloj) {
+        if (intervalo.toMillis() <= 0) {
+            throw new IllegalArgumentException("El intervalo de rotación debe ser positivo");
+        }
+        this.intervaloMs = intervalo.toMillis();
+        this.backups = backups;
+        this.comprimir = comprimir;
+        this.reloj = reloj;
+    }
+
+    @Override
+    public boolean debeRotar(Path archivoActual) throws Exception {
+        long ahora = reloj.ahora().toEpochMilli();
+        if (proximoCorte == Long.MIN_VALUE) {
+            proximoCorte = corteDespuesDe(ahora);
+            if (Files.exists(archivoActual) && Files.size(archivoActual) > 0) {
+                long modificado = Files.getLastModifiedTime(archivoActual).toMillis();
+                return corteDespuesDe(modificado) <= ahora;
+            }
+            return false;
+        }
+        return ahora >= proximoCorte;
+    }
+
+    @Override
+    public boolean debeRotar(Path archivoActual, long bytesEscritos) throws Exception {
+        if (proximoCorte == Long.MIN_VALUE) {
+            return debeRotar(archivoActual);
+        }
+        long ahora = reloj.ahora().toEpochMilli();
+        if (ahora < proximoCorte) {
+            return false;
+        }
+        if (bytesEscritos == 0) {
+            // archivo vacío: no hay nada que rotar, solo se pasa al período actual
+            proximoCorte = corteDespuesDe(ahora);
+            return false;
+        }
+        return true;
+    }
+
+    @Override
+    public Path rotar(Path archivoActual) throws Exception {
+        proximoCorte = corteDespuesDe(reloj.ahora().toEpochMilli());
+        Generaciones.rotar(archivoActual, backups, comprimir);
+        return archivoActual;
+    }
+
+    private long corteDespuesDe(long ms) {
+        return Math.floorDiv(ms, intervaloMs) * intervaloMs + intervaloMs;
+    }
+}
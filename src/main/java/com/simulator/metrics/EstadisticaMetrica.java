@@ -0,0 +1,43 @@
+package com.simulator.metrics;
+
+/**
+ * Media, varianza muestral e intervalo de confianza del 95% de una métrica
+ * sobre n réplicas independientes.
+ */
+public record EstadisticaMetrica(
+        String metrica,
+        int n,
+        double media,
+        double varianza,
+        double icInferior,
+        double icSuperior) {
+
+    // t de Student (dos colas, 95%) para gl = 1..30; luego normal
+    private static final double[] T95 = {
+        12.706, 4.303, 3.182, 2.776, 2.571, 2.447, 2.365, 2.306, 2.262, 2.228,
+        2.201, 2.179, 2.160, 2.145, 2.131, 2.120, 2.110, 2.101, 2.093, 2.086,
+        2.080, 2.074, 2.069, 2.064, 2.060, 2.056, 2.052, 2.048, 2.045, 2.042
+    };
+
+    public static EstadisticaMetrica de(String metrica, double[] valores) {
+        int n = 0;
+        double media = 0, m2 = 0;
+        for (double v : valores) {
+            n++;
+            double d = v - media;
+            media += d / n;
+            m2 += d * (v - media);
+        }
+        double varianza = n > 1 ? m2 / (n - 1) : 0;
+        double mitad = n > 1 ? t95(n - 1) * Math.sqrt(varianza / n) : 0;
+        return new EstadisticaMetrica(metrica, n, media, varianza, media - mitad, media + mitad);
+    }
+
+    public double desviacion() {
+        return Math.sqrt(varianza);
+    }
+
+    private static double t95(int gl) {
+        return gl <= T95.length ? T95[gl - 1] : 1.960;
+    }
+}
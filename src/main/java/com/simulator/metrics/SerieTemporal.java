@@ -0,0 +1,250 @@
+package com.simulator.metrics;
+
+/**
+ * Serie de un valor entero por tick, acotada en memoria.
+ * <p>
+ * El nivel 0 es un anillo con las últimas {@code capacidad} muestras crudas;
+ * cada nivel k guarda agregados (mín, máx, media) de {@code factor^k} ticks en
+ * otro anillo del mismo tamaño. Así la sesión completa siempre cabe en algún
+ * nivel, y {@link #muestra(int)} la reduce con LTTB al ancho pedido sin
+ * recorrer más de {@code capacidad} puntos.
+ * <p>
+ * Thread-safe: se escribe desde el hilo del simulador y se lee desde la UI.
+ */
+public final class SerieTemporal {
+
+    /** Puntos listos para graficar; {@code ticks} puede tener decimales (centro del bloque). */
+    public record Puntos(double[] ticks, double[] valores) {
+
+        public int size() {
+            return ticks.length;
+        }
+    }
+
+    private final int capacidad;
+    private final int factor;
+
+    private final int niveles;
+    private final int[] crudo;
+    // niveles agregados (índice 0 = nivel 1); se reservan al usarse
+    private final int[][] min;
+    private final int[][] max;
+    private final double[][] media;
+    private final long[] cuenta;   // puntos emitidos por nivel, con un centinela al final
+
+    private int primerTick;
+    private int ultimoTick;
+
+    public SerieTemporal() {
+        this(1 << 16, 16);
+    }
+
+    public SerieTemporal(int capacidad, int factor) {
+        if (factor < 2 || capacidad < factor) {
+            throw new IllegalArgumentException("Se requiere factor >= 2 y capacidad >= factor");
+        }
+        this.capacidad = capacidad;
+        this.factor = factor;
+        this.crudo = new int[capacidad];
+        // suficientes niveles para que el último cubra cualquier rango de ticks int
+        int k = 0;
+        for (double cubre = capacidad; cubre < 0x1p32; cubre *= factor) {
+            k++;
+        }
+        this.niveles = k;
+        this.min = new int[k][];
+        this.max = new int[k][];
+        this.media = new double[k][];
+        this.cuenta = new long[k + 2];
+    }
+
+    /**
+     * Registra el valor de un tick. Repetir el último tick lo sobrescribe;
+     * ticks fuera de secuencia se ignoran.
+     */
+    public synchronized void registrar(int tick, int valor) {
+        long n = cuenta[0];
+        if (n == 0) {
+            primerTick = tick;
+        } else if (tick == ultimoTick) {
+            // el último tick aún no está agregado (se cierra con el siguiente)
+            crudo[(int) ((n - 1) % capacidad)] = valor;
+            return;
+        } else if (tick != ultimoTick + 1) {
+            return;
+        }
+        // el bloque anterior se cierra al llegar el primer tick del siguiente
+        if (n > 0 && n % factor == 0) {
+            cerrarCrudo(n);
+        }
+        crudo[(int) (n % capacidad)] = valor;
+        cuenta[0] = n + 1;
+        ultimoTick = tick;
+    }
+
+    public synchronized void limpiar() {
+        java.util.Arrays.fill(cuenta, 0);
+        primerTick = 0;
+        ultimoTick = 0;
+    }
+
+    public synchronized boolean isEmpty() {
+        return cuenta[0] == 0;
+    }
+
+    public synchronized int primerTick() {
+        return primerTick;
+    }
+
+    public synchronized int ultimoTick() {
+        return ultimoTick;
+    }
+
+    /**
+     * Toda la sesión reducida a lo sumo a {@code ancho} puntos (LTTB), tomada
+     * del nivel más fino que todavía la contiene completa.
+     */
+    public synchronized Puntos muestra(int ancho) {
+        if (cuenta[0] == 0) {
+            return new Puntos(new double[0], new double[0]);
+        }
+        int nivel = 0;
+        while (cuenta[nivel] > capacidad) {
+            nivel++;
+        }
+        int total = 0;
+        for (int k = nivel; k >= 0; k--) {
+            total += (int) (cuenta[k] - inicio(k, nivel));
+        }
+        double[] xs = new double[total];
+        double[] ys = new double[total];
+        int j = 0;
+        for (int k = nivel; k >= 0; k--) {
+            long tam = bloque(k);
+            double centro = (tam - 1) / 2.0;
+            for (long i = inicio(k, nivel); i < cuenta[k]; i++, j++) {
+                xs[j] = primerTick + i * tam + centro;
+                ys[j] = k == 0 ? crudo[(int) (i % capacidad)] : media[k - 1][(int) (i % capacidad)];
+            }
+        }
+        return lttb(xs, ys, ancho);
+    }
+
+    /**
+     * Máximo registrado en toda la sesión.
+     */
+    public synchronized int maximo() {
+        int nivel = 0;
+        while (cuenta[nivel] > capacidad) {
+            nivel++;
+        }
+        int m = Integer.MIN_VALUE;
+        for (int k = nivel; k >= 0; k--) {
+            for (long i = inicio(k, nivel); i < cuenta[k]; i++) {
+                int s = (int) (i % capacidad);
+                m = Math.max(m, k == 0 ? crudo[s] : max[k - 1][s]);
+            }
+        }
+        return m;
+    }
+
+    // primer índice del nivel k que no está agregado en el nivel k + 1;
+    // el nivel superior elegido se recorre entero
+    private long inicio(int k, int nivel) {
+        return k == nivel ? 0 : cuenta[k + 1] * factor;
+    }
+
+    private long bloque(int k) {
+        long b = 1;
+        for (int i = 0; i < k; i++) {
+            b *= factor;
+        }
+        return b;
+    }
+
+    private void cerrarCrudo(long n) {
+        int mn = Integer.MAX_VALUE, mx = Integer.MIN_VALUE;
+        long suma = 0;
+        for (long i = n - factor; i < n; i++) {
+            int v = crudo[(int) (i % capacidad)];
+            mn = Math.min(mn, v);
+            mx = Math.max(mx, v);
+            suma += v;
+        }
+        emitir(1, mn, mx, (double) suma / factor);
+    }
+
+    private void emitir(int k, int mn, int mx, double med) {
+        if (media[k - 1] == null) {
+            min[k - 1] = new int[capacidad];
+            max[k - 1] = new int[capacidad];
+            media[k - 1] = new double[capacidad];
+        }
+        long n = cuenta[k];
+        int s = (int) (n % capacidad);
+        min[k - 1][s] = mn;
+        max[k - 1][s] = mx;
+        media[k - 1][s] = med;
+        cuenta[k] = ++n;
+        if (n % factor == 0 && k < niveles) {
+            int amn = Integer.MAX_VALUE, amx = Integer.MIN_VALUE;
+            double suma = 0;
+            for (long i = n - factor; i < n; i++) {
+                int t = (int) (i % capacidad);
+                amn = Math.min(amn, min[k - 1][t]);
+                amx = Math.max(amx, max[k - 1][t]);
+                suma += media[k - 1][t];
+            }
+            emitir(k + 1, amn, amx, suma / factor);
+        }
+    }
+
+    /**
+     * Largest-Triangle-Three-Buckets: conserva el primero y el último, y de
+     * cada cubeta intermedia el punto que forma el triángulo de mayor área
+     * con el elegido antes y la media de la cubeta siguiente.
+     */
+    static Puntos lttb(double[] xs, double[] ys, int ancho) {
+        int n = xs.length;
+        if (ancho >= n || ancho < 3) {
+            return new Puntos(xs, ys);
+        }
+        double[] ox = new double[ancho];
+        double[] oy = new double[ancho];
+        double paso = (double) (n - 2) / (ancho - 2);
+        int a = 0;
+        ox[0] = xs[0];
+        oy[0] = ys[0];
+        for (int i = 0; i < ancho - 2; i++) {
+            int desdeSig = (int) ((i + 1) * paso) + 1;
+            int hastaSig = Math.min((int) ((i + 2) * paso) + 1, n);
+            double mx = 0, my = 0;
+            for (int j = desdeSig; j < hastaSig; j++) {
+                mx += xs[j];
+                my += ys[j];
+            }
+            int cuantos = hastaSig - desdeSig;
+            mx /= cuantos;
+            my /= cuantos;
+
+            int desde = (int) (i * paso) + 1;
+            int hasta = (int) ((i + 1) * paso) + 1;
+            double ax = xs[a], ay = ys[a];
+            double mejor = -1;
+            int elegido = desde;
+            for (int j = desde; j < hasta; j++) {
+                double area = Math.abs((ax - mx) * (ys[j] - ay) - (ax - xs[j]) * (my - ay));
+                if (area > mejor) {
+                    mejor = area;
+                    elegido = j;
+                }
+            }
+            ox[i + 1] = xs[elegido];
+            oy[i + 1] = ys[elegido];
+            a = elegido;
+        }
+        ox[ancho - 1] = xs[n - 1];
+        oy[ancho - 1] = ys[n - 1];
+        return new Puntos(ox, oy);
+    }
+}
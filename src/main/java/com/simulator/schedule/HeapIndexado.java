@@ -0,0 +1,169 @@
+package com.simulator.schedule;
+
+import com.simulator.core.IndicePid;
+import com.simulator.core.Proceso;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Min-heap 4-ario de procesos con índice pid→posición. Inserción, borrado y
+ * reordenamiento de un elemento en O(log n); el mínimo en O(1).
+ */
+final class HeapIndexado {
+
+    private static final int D = 4;
+
+    private final Comparator<Proceso> comp;
+    private final IndicePid posicion = new IndicePid(64);
+    private Proceso[] heap = new Proceso[64];
+    private int n;
+
+    HeapIndexado(Comparator<Proceso> comp) {
+        this.comp = comp;
+    }
+
+    int size() {
+        return n;
+    }
+
+    boolean isEmpty() {
+        return n == 0;
+    }
+
+    boolean contiene(Proceso p) {
+        int i = posicion.get(p.getPid());
+        return i >= 0 && heap[i] == p;
+    }
+
+    Proceso primero() {
+        return n == 0 ? null : heap[0];
+    }
+
+    /**
+     * Una hoja del heap (nunca el mínimo si hay más de uno).
+     */
+    Proceso ultimo() {
+        return n == 0 ? null : heap[n - 1];
+    }
+
+    /**
+     * Elementos en orden de arreglo: reinsertarlos en ese orden en un heap
+     * vacío reconstruye exactamente el mismo arreglo.
+     */
+    List<Proceso> elementos() {
+        return new ArrayList<>(Arrays.asList(heap).subList(0, n));
+    }
+
+    /**
+     * Inserta; si ya estaba, solo lo reubica según su clave actual.
+     */
+    void insertar(Proceso p) {
+        if (contiene(p)) {
+            reordenar(p);
+            return;
+        }
+        if (n == heap.length) {
+            heap = Arrays.copyOf(heap, n * 2);
+        }
+        heap[n] = p;
+        posicion.put(p.getPid(), n);
+        subir(n++);
+    }
+
+    Proceso extraerPrimero() {
+        if (n == 0) {
+            return null;
+        }
+        Proceso p = heap[0];
+        quitarEn(0);
+        return p;
+    }
+
+    boolean remover(Proceso p) {
+        if (p == null || !contiene(p)) {
+            return false;
+        }
+        quitarEn(posicion.get(p.getPid()));
+        return true;
+    }
+
+    /**
+     * Restaura el orden tras un cambio de clave de {@code p} (p.ej. la ráfaga
+     * restante en SJF).
+     */
+    void reordenar(Proceso p) {
+        int i = posicion.get(p.getPid());
+        if (i < 0 || heap[i] != p) {
+            return;
+        }
+        if (!subir(i)) {
+            bajar(i);
+        }
+    }
+
+    void clear() {
+        Arrays.fill(heap, 0, n, null);
+        n = 0;
+        posicion.clear();
+    }
+
+    private void quitarEn(int i) {
+        Proceso quitado = heap[i];
+        posicion.remove(quitado.getPid());
+        Proceso ultimo = heap[--n];
+        heap[n] = null;
+        if (i < n) {
+            heap[i] = ultimo;
+            posicion.put(ultimo.getPid(), i);
+            if (!subir(i)) {
+                bajar(i);
+            }
+        }
+    }
+
+    private boolean subir(int i) {
+        Proceso x = heap[i];
+        int inicio = i;
+        while (i > 0) {
+            int padre = (i - 1) / D;
+            Proceso pp = heap[padre];
+            if (comp.compare(x, pp) >= 0) {
+                break;
+            }
+            heap[i] = pp;
+            posicion.put(pp.getPid(), i);
+            i = padre;
+        }
+        heap[i] = x;
+        posicion.put(x.getPid(), i);
+        return i != inicio;
+    }
+
+    private void bajar(int i) {
+        Proceso x = heap[i];
+        while (true) {
+            int primerHijo = D * i + 1;
+            if (primerHijo >= n) {
+                break;
+            }
+            int menor = primerHijo;
+            int fin = Math.min(primerHijo + D, n);
+            for (int c = primerHijo + 1; c < fin; c++) {
+                if (comp.compare(heap[c], heap[menor]) < 0) {
+                    menor = c;
+                }
+            }
+            if (comp.compare(heap[menor], x) >= 0) {
+                break;
+            }
+            heap[i] = heap[menor];
+            posicion.put(heap[i].getPid(), i);
+            i = menor;
+        }
+        heap[i] = x;
+        posicion.put(x.getPid(), i);
+    }
+}
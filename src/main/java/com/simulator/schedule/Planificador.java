@@ -2,6 +2,8 @@ package com.simulator.schedule;
 
 import com.simulator.core.Proceso;
 
+import java.util.List;
+
 public interface Planificador {
 
     void agregarProceso(Proceso p);
@@ -20,4 +22,54 @@ public interface Planificador {
         return false;
     }
 
+    /**
+     * Ticks que puede seguir ejecutando {@code running} antes de que
+     * debePreemptar() lo desaloje. Sin límite si el planificador no expropia.
+     */
+    default int ticksHastaPreempcion(Proceso running) {
+        return Integer.MAX_VALUE;
+    }
+
+    /**
+     * Equivale a {@code n} llamadas a onTick() con el mismo proceso.
+     */
+    default void onTicks(Proceso running, int n) {
+        for (int i = 0; i < n; i++) {
+            onTick(running);
+        }
+    }
+
+    /**
+     * Procesos en la cola, incluido el que esté en ejecución.
+     */
+    default int pendientes() {
+        return 0;
+    }
+
+    /**
+     * Un proceso READY que otro núcleo podría llevarse sin afectar al que está
+     * al frente de la cola, o null si no hay.
+     */
+    default Proceso candidatoMigracion() {
+        return null;
+    }
+
+    /**
+     * Procesos en cola, en un orden tal que agregarlos uno a uno a un
+     * planificador vacío reproduce el mismo estado (ver Simulador.checkpoint).
+     */
+    List<Proceso> enCola();
+
+    /**
+     * Estado propio del planificador para un proceso en cola, p.ej. el quantum
+     * restante en RR. 0 si no guarda nada.
+     */
+    default int contadorDe(Proceso p) {
+        return 0;
+    }
+
+    default void fijarContador(Proceso p, int valor) {
+
+    }
+
 }
@@ -4,12 +4,14 @@ import com.simulator.core.EstadoProceso;
 import com.simulator.core.Proceso;
 
 import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
 import java.util.Objects;
-import java.util.Queue;
 
 public final class PlanificadorFCFS implements Planificador {
 
-    private final Queue<Proceso> cola = new ArrayDeque<>();
+    private final Deque<Proceso> cola = new ArrayDeque<>();
 
     @Override
     public void agregarProceso(Proceso p) {
@@ -41,6 +43,25 @@ public final class PlanificadorFCFS implements Planificador {
         cola.clear();
     }
 
+    @Override
+    public int pendientes() {
+        return cola.size();
+    }
+
+    @Override
+    public Proceso candidatoMigracion() {
+        if (cola.size() < 2) {
+            return null;
+        }
+        Proceso p = cola.peekLast();
+        return p.getEstado() == EstadoProceso.READY ? p : null;
+    }
+
+    @Override
+    public List<Proceso> enCola() {
+        return new ArrayList<>(cola);
+    }
+
     int size() {
         return cola.size();
     }
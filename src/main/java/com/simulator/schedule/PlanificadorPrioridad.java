@@ -45,4 +45,23 @@ public class PlanificadorPrioridad implements Planificador {
     public void reinicializar() {
         ready.clear();
     }
+
+    @Override
+    public int pendientes() {
+        return ready.size();
+    }
+
+    @Override
+    public Proceso candidatoMigracion() {
+        if (ready.size() < 2) {
+            return null;
+        }
+        Proceso p = ready.get(ready.size() - 1);
+        return p.getEstado() == EstadoProceso.READY ? p : null;
+    }
+
+    @Override
+    public List<Proceso> enCola() {
+        return new ArrayList<>(ready);
+    }
 }
@@ -0,0 +1,66 @@
+package com.simulator.schedule;
+
+import com.simulator.core.EstadoProceso;
+import com.simulator.core.Proceso;
+
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Prioridad sobre un heap indexado: mismas selecciones que
+ * {@link PlanificadorPrioridad} con inserción y borrado O(log n).
+ */
+public final class PlanificadorPrioridadHeap implements Planificador {
+
+    private static final Comparator<Proceso> COMP
+            = Comparator.comparingInt(Proceso::getPrioridad)
+                    .thenComparingInt(Proceso::getPid);
+
+    private final HeapIndexado ready = new HeapIndexado(COMP);
+
+    @Override
+    public void agregarProceso(Proceso p) {
+        if (p.getEstado() != EstadoProceso.TERMINATED) {
+            ready.insertar(p);
+        }
+    }
+
+    @Override
+    public Proceso seleccionarProceso() {
+        Proceso p;
+        while ((p = ready.primero()) != null && p.getEstado() == EstadoProceso.TERMINATED) {
+            ready.extraerPrimero();
+        }
+        return p;
+    }
+
+    @Override
+    public void removerProceso(Proceso p) {
+        ready.remover(p);
+    }
+
+    @Override
+    public void reinicializar() {
+        ready.clear();
+    }
+
+    @Override
+    public int pendientes() {
+        return ready.size();
+    }
+
+    @Override
+    public Proceso candidatoMigracion() {
+        Proceso p = ready.ultimo();
+        return (ready.size() > 1 && p.getEstado() == EstadoProceso.READY) ? p : null;
+    }
+
+    @Override
+    public List<Proceso> enCola() {
+        return ready.elementos();
+    }
+
+    int size() {
+        return ready.size();
+    }
+}
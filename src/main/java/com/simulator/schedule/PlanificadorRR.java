@@ -1,15 +1,33 @@
 package com.simulator.schedule;
 
 import com.simulator.core.EstadoProceso;
+import com.simulator.core.IndicePid;
 import com.simulator.core.Proceso;
 
 import java.util.*;
 
+/**
+ * Round Robin sobre una lista doblemente enlazada intrusiva: cada proceso en
+ * cola ocupa un nodo de arreglos primitivos (sig/ant/quantum) ubicado por pid.
+ * Todas las operaciones, rotar() incluida, son O(1) y no generan basura.
+ */
 public final class PlanificadorRR implements Planificador {
 
+    private static final int NULO = -1;
+
     private final int quantumTicks;
-    private final Deque<Proceso> cola = new ArrayDeque<>();
-    private final Map<Integer, Integer> qRestante = new HashMap<>();
+
+    private Proceso[] proc = new Proceso[64];
+    private int[] sig = new int[64];
+    private int[] ant = new int[64];
+    private int[] qRestante = new int[64];
+    private final IndicePid nodoPorPid = new IndicePid(64);
+
+    private int cabeza = NULO, cola = NULO;
+    private int n;
+    private int[] libres = new int[64];
+    private int nLibres;
+    private int usados;
 
     public PlanificadorRR(int quatumTicks) {
         if (quatumTicks <= 0) {
@@ -21,21 +39,21 @@ public final class PlanificadorRR implements Planificador {
     @Override
     public void agregarProceso(Proceso p) {
         Objects.requireNonNull(p);
-        if (!cola.contains(p)) {
-            cola.offerLast(p);
+        int nodo = nodo(p);
+        if (nodo == NULO) {
+            nodo = enlazarAlFinal(p);
         }
-        qRestante.put(p.getPid(), quantumTicks);
+        qRestante[nodo] = quantumTicks;
     }
 
     @Override
     public Proceso seleccionarProceso() {
-        while (!cola.isEmpty()) {
-            Proceso h = cola.peekFirst();
+        while (cabeza != NULO) {
+            Proceso h = proc[cabeza];
             if (h.getEstado() == EstadoProceso.READY || h.getEstado() == EstadoProceso.RUNNING) {
                 return h;
             }
-            cola.pollFirst();
-            qRestante.remove(h.getPid());
+            desenlazar(cabeza);
         }
         return null;
     }
@@ -45,14 +63,20 @@ public final class PlanificadorRR implements Planificador {
         if (p == null) {
             return;
         }
-        cola.remove(p);
-        qRestante.remove(p.getPid());
+        int nodo = nodo(p);
+        if (nodo != NULO) {
+            desenlazar(nodo);
+        }
     }
 
     @Override
     public void reinicializar() {
-        cola.clear();
-        qRestante.clear();
+        Arrays.fill(proc, 0, usados, null);
+        nodoPorPid.clear();
+        cabeza = cola = NULO;
+        n = 0;
+        nLibres = 0;
+        usados = 0;
     }
 
     @Override
@@ -60,9 +84,9 @@ public final class PlanificadorRR implements Planificador {
         if (runnig == null) {
             return;
         }
-        Integer q = qRestante.get(runnig.getPid());
-        if (q != null && q > 0) {
-            qRestante.put(runnig.getPid(), q - 1);
+        int nodo = nodo(runnig);
+        if (nodo != NULO && qRestante[nodo] > 0) {
+            qRestante[nodo]--;
         }
     }
 
@@ -71,28 +95,153 @@ public final class PlanificadorRR implements Planificador {
         if (running == null) {
             return false;
         }
-        Integer q = qRestante.get(running.getPid());
-        return q != null && q <= 0 && running.getEstado() != EstadoProceso.TERMINATED;
+        int nodo = nodo(running);
+        return nodo != NULO && qRestante[nodo] <= 0 && running.getEstado() != EstadoProceso.TERMINATED;
+    }
+
+    @Override
+    public int ticksHastaPreempcion(Proceso running) {
+        if (running == null) {
+            return Integer.MAX_VALUE;
+        }
+        int nodo = nodo(running);
+        return nodo == NULO ? Integer.MAX_VALUE : Math.max(0, qRestante[nodo]);
+    }
+
+    @Override
+    public void onTicks(Proceso running, int n) {
+        if (running == null || n <= 0) {
+            return;
+        }
+        int nodo = nodo(running);
+        if (nodo != NULO && qRestante[nodo] > 0) {
+            qRestante[nodo] = Math.max(0, qRestante[nodo] - n);
+        }
     }
 
     public void rotar(Proceso running) {
         if (running == null) {
             return;
         }
-        if (!cola.isEmpty() && cola.peekFirst() == running) {
-            cola.pollFirst();
-        } else {
-            cola.remove(running);
+        int nodo = nodo(running);
+        if (nodo == NULO) {
+            nodo = enlazarAlFinal(running);
+        } else if (nodo != cola) {
+            sacar(nodo);
+            ponerAlFinal(nodo);
+        }
+        qRestante[nodo] = quantumTicks;
+    }
+
+    @Override
+    public int pendientes() {
+        return n;
+    }
+
+    @Override
+    public Proceso candidatoMigracion() {
+        if (n < 2) {
+            return null;
+        }
+        Proceso p = proc[cola];
+        return p.getEstado() == EstadoProceso.READY ? p : null;
+    }
+
+    @Override
+    public List<Proceso> enCola() {
+        List<Proceso> r = new ArrayList<>(n);
+        for (int nodo = cabeza; nodo != NULO; nodo = sig[nodo]) {
+            r.add(proc[nodo]);
+        }
+        return r;
+    }
+
+    @Override
+    public int contadorDe(Proceso p) {
+        int nodo = nodo(p);
+        return nodo == NULO ? 0 : qRestante[nodo];
+    }
+
+    @Override
+    public void fijarContador(Proceso p, int valor) {
+        int nodo = nodo(p);
+        if (nodo != NULO) {
+            qRestante[nodo] = valor;
         }
-        cola.offerLast(running);
-        qRestante.put(running.getPid(), quantumTicks);
     }
 
     int size() {
-        return cola.size();
+        return n;
     }
 
     int quantumRestante(int pid) {
-        return qRestante.getOrDefault(pid, -1);
+        int nodo = nodoPorPid.get(pid);
+        return nodo == NULO ? -1 : qRestante[nodo];
+    }
+
+    private int nodo(Proceso p) {
+        int nodo = nodoPorPid.get(p.getPid());
+        return (nodo != NULO && proc[nodo] == p) ? nodo : NULO;
+    }
+
+    private int enlazarAlFinal(Proceso p) {
+        int nodo;
+        if (nLibres > 0) {
+            nodo = libres[--nLibres];
+        } else {
+            if (usados == proc.length) {
+                crecer();
+            }
+            nodo = usados++;
+        }
+        proc[nodo] = p;
+        nodoPorPid.put(p.getPid(), nodo);
+        ponerAlFinal(nodo);
+        n++;
+        return nodo;
+    }
+
+    private void desenlazar(int nodo) {
+        sacar(nodo);
+        nodoPorPid.remove(proc[nodo].getPid());
+        proc[nodo] = null;
+        if (nLibres == libres.length) {
+            libres = Arrays.copyOf(libres, nLibres * 2);
+        }
+        libres[nLibres++] = nodo;
+        n--;
+    }
+
+    private void ponerAlFinal(int nodo) {
+        sig[nodo] = NULO;
+        ant[nodo] = cola;
+        if (cola != NULO) {
+            sig[cola] = nodo;
+        } else {
+            cabeza = nodo;
+        }
+        cola = nodo;
+    }
+
+    private void sacar(int nodo) {
+        int a = ant[nodo], s = sig[nodo];
+        if (a != NULO) {
+            sig[a] = s;
+        } else {
+            cabeza = s;
+        }
+        if (s != NULO) {
+            ant[s] = a;
+        } else {
+            cola = a;
+        }
+    }
+
+    private void crecer() {
+        int c = proc.length * 2;
+        proc = Arrays.copyOf(proc, c);
+        sig = Arrays.copyOf(sig, c);
+        ant = Arrays.copyOf(ant, c);
+        qRestante = Arrays.copyOf(qRestante, c);
     }
 }
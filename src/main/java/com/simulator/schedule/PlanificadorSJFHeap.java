@@ -0,0 +1,81 @@
+package com.simulator.schedule;
+
+import com.simulator.core.EstadoProceso;
+import com.simulator.core.Proceso;
+
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * SJF sobre un heap indexado: mismas selecciones que {@link PlanificadorSJF}
+ * con inserción y borrado O(log n). La ráfaga del proceso en ejecución solo
+ * baja, así que onTick() es un decrease-key. Si la ráfaga de un proceso en
+ * cola cambia por otra vía (p.ej. forzarTerminar), hay que sacarlo antes de
+ * volver a seleccionar.
+ */
+public final class PlanificadorSJFHeap implements Planificador {
+
+    private static final Comparator<Proceso> COMP
+            = Comparator.comparingInt(Proceso::getTiempoRestante)
+                    .thenComparingInt(Proceso::getPid);
+
+    private final HeapIndexado ready = new HeapIndexado(COMP);
+
+    @Override
+    public void agregarProceso(Proceso p) {
+        if (p.getEstado() != EstadoProceso.TERMINATED) {
+            ready.insertar(p);
+        }
+    }
+
+    @Override
+    public Proceso seleccionarProceso() {
+        Proceso p;
+        while ((p = ready.primero()) != null && p.getEstado() == EstadoProceso.TERMINATED) {
+            ready.extraerPrimero();
+        }
+        return p;
+    }
+
+    @Override
+    public void removerProceso(Proceso p) {
+        ready.remover(p);
+    }
+
+    @Override
+    public void reinicializar() {
+        ready.clear();
+    }
+
+    @Override
+    public void onTick(Proceso running) {
+        if (running != null) {
+            ready.reordenar(running);
+        }
+    }
+
+    @Override
+    public void onTicks(Proceso running, int n) {
+        onTick(running);
+    }
+
+    @Override
+    public int pendientes() {
+        return ready.size();
+    }
+
+    @Override
+    public Proceso candidatoMigracion() {
+        Proceso p = ready.ultimo();
+        return (ready.size() > 1 && p.getEstado() == EstadoProceso.READY) ? p : null;
+    }
+
+    @Override
+    public List<Proceso> enCola() {
+        return ready.elementos();
+    }
+
+    int size() {
+        return ready.size();
+    }
+}
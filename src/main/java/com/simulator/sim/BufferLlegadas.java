@@ -0,0 +1,68 @@
+package com.simulator.sim;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Llegadas pregeneradas e inmutables, compartibles entre hilos. Cada
+ * consumidor las recorre con su propio {@link #cursor()}.
+ */
+public final class BufferLlegadas {
+
+    private final int[] ticks;          // no decreciente
+    private final List<ProcesoSpec> specs;
+
+    private BufferLlegadas(int[] ticks, List<ProcesoSpec> specs) {
+        this.ticks = ticks;
+        this.specs = specs;
+    }
+
+    /**
+     * Vuelca las llegadas de los ticks 1..hastaTick de la fuente.
+     */
+    public static BufferLlegadas de(FuenteLlegadas fuente, int hastaTick) {
+        int[] t = new int[64];
+        List<ProcesoSpec> s = new ArrayList<>();
+        int prox;
+        while ((prox = fuente.proximaLlegada(hastaTick)) <= hastaTick) {
+            for (ProcesoSpec spec : fuente.llegadasEn(prox)) {
+                if (s.size() == t.length) {
+                    t = Arrays.copyOf(t, t.length * 2);
+                }
+                t[s.size()] = prox;
+                s.add(spec);
+            }
+        }
+        return new BufferLlegadas(Arrays.copyOf(t, s.size()), List.copyOf(s));
+    }
+
+    public int size() {
+        return specs.size();
+    }
+
+    public FuenteLlegadas cursor() {
+        return new FuenteLlegadas() {
+            private int i = 0;
+
+            @Override
+            public int proximaLlegada() {
+                return i < ticks.length ? ticks[i] : Integer.MAX_VALUE;
+            }
+
+            @Override
+            public List<ProcesoSpec> llegadasEn(int tick) {
+                while (i < ticks.length && ticks[i] < tick) {
+                    i++;
+                }
+                int j = i;
+                while (j < ticks.length && ticks[j] == tick) {
+                    j++;
+                }
+                List<ProcesoSpec> r = (j == i) ? List.of() : specs.subList(i, j);
+                i = j;
+                return r;
+            }
+        };
+    }
+}
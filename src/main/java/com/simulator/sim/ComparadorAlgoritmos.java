@@ -22,7 +22,7 @@ public final class ComparadorAlgoritmos {
     private final String runId;
     private final ScheduledExecutorService scheduler
             = Executors.newSingleThreadScheduledExecutor();
-    private final Random rng;
+    private final FuenteBernoulli fuente;
     private final int tickMs;
 
     private final Simulador simA;
@@ -30,14 +30,14 @@ public final class ComparadorAlgoritmos {
     private final Oyente oyente;
 
     private volatile boolean corriendo = false;
-    private int nextPid = 1;
+    private int tick = 0;
 
     public ComparadorAlgoritmos(ParametrosSimulacion baseParams, TipoAlgoritmo algA, TipoAlgoritmo algB, Oyente oyente) {
         this.base = baseParams;
         this.algA = algA;
         this.algB = algB;
         this.tickMs = baseParams.tickMs;
-        this.rng = new Random(baseParams.seed);
+        this.fuente = new FuenteBernoulli(baseParams);
         this.oyente = oyente;
 
         this.runId = LogNombres.newRunId();
@@ -85,14 +85,7 @@ public final class ComparadorAlgoritmos {
     }
 
     private void tick() {
-        List<ProcesoSpec> llegadas = new ArrayList<>();
-        if (rng.nextDouble() < base.probNuevoProceso) {
-            int pid = nextPid++;
-            int rafaga = randBetween(base.rafagaMin, base.rafagaMax);
-            int prioridad = randBetween(base.prioridadMin, base.prioridadMax);
-            long seedProc = (base.seed * 31L) ^ pid;
-            llegadas.add(new ProcesoSpec(pid, "P" + pid, rafaga, prioridad, seedProc));
-        }
+        List<ProcesoSpec> llegadas = fuente.llegadasEn(++tick);
 
         simA.tickCoordinado(llegadas);
         simB.tickCoordinado(llegadas);
@@ -103,13 +96,4 @@ public final class ComparadorAlgoritmos {
         }
     }
 
-    private int randBetween(int a, int b) {
-        if (a > b) {
-            int t = a;
-            a = b;
-            b = t;
-        }
-        return a + rng.nextInt(b - a + 1);
-    }
-
 }
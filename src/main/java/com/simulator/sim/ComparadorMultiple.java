@@ -0,0 +1,217 @@
+package com.simulator.sim;
+
+import com.simulator.sim.Simulador.ModoGeneracion;
+import com.simulator.sim.vm.VistaModelo;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+/**
+ * Compara N algoritmos sobre un mismo flujo de llegadas. Las llegadas de cada
+ * tick se generan una sola vez en una lista inmutable que comparten todos los
+ * simuladores, y cada simulador avanza en su propio hilo.
+ * <p>
+ * En vivo hay una barrera por tick (todos terminan el tick t antes del t+1);
+ * en modo headless cada simulador corre su tramo completo con el motor de
+ * eventos, de forma independiente.
+ */
+public final class ComparadorMultiple {
+
+    public interface Oyente {
+
+        void onModeloActualizado(int indice, VistaModelo vm);
+
+        /**
+         * El comparador en vivo se detuvo porque la variante {@code indice}
+         * falló en un tick (-1 si el fallo no es de una variante): seguir
+         * dejaría a las demás con llegadas que ella no recibió.
+         */
+        default void onFallo(int indice, Throwable causa) {
+        }
+    }
+
+    private final ParametrosSimulacion base;
+    private final List<VarianteAlgoritmo> variantes;
+    private final List<Simulador> sims = new ArrayList<>();
+    private final Oyente oyente;
+    private final String runId;
+
+    private final ScheduledExecutorService scheduler
+            = Executors.newSingleThreadScheduledExecutor();
+    private final ExecutorService trabajadores;
+    private final FuenteBernoulli fuente;
+
+    private volatile boolean corriendo = false;
+    private volatile boolean fallido = false;   // tras un fallo no se reanuda
+    private int tick = 0;
+
+    /**
+     * @param conLogs si es false los simuladores no escriben log
+     */
+    public ComparadorMultiple(ParametrosSimulacion base, List<VarianteAlgoritmo> variantes,
+            Oyente oyente, boolean conLogs) {
+        if (variantes.isEmpty()) {
+            throw new IllegalArgumentException("Se necesita al menos una variante");
+        }
+        this.base = base;
+        this.variantes = List.copyOf(variantes);
+        this.oyente = oyente;
+        this.runId = LogNombres.newRunId();
+        this.fuente = new FuenteBernoulli(base);
+
+        for (VarianteAlgoritmo v : this.variantes) {
+            var p = new ParametrosSimulacion(base.tickMs, base.probNuevoProceso,
+                    base.rafagaMin, base.rafagaMax, base.prioridadMin, base.prioridadMax,
+                    base.seed, v.algoritmo(), v.quantum(), base.nucleos);
+            sims.add(new Simulador(p, conLogs ? LogNombres.comparePath(runId, v.etiqueta()) : null,
+                    ModoGeneracion.COORDINADO));
+        }
+
+        int hilos = Math.min(this.variantes.size(), Runtime.getRuntime().availableProcessors());
+        this.trabajadores = Executors.newFixedThreadPool(Math.max(1, hilos));
+    }
+
+    public static List<VarianteAlgoritmo> todas(int... quantaRR) {
+        List<VarianteAlgoritmo> v = new ArrayList<>();
+        v.add(VarianteAlgoritmo.de(TipoAlgoritmo.FCFS));
+        v.add(VarianteAlgoritmo.de(TipoAlgoritmo.SJF));
+        for (int q : quantaRR) {
+            v.add(VarianteAlgoritmo.rr(q));
+        }
+        v.add(VarianteAlgoritmo.de(TipoAlgoritmo.PRIORIDAD));
+        return v;
+    }
+
+    public List<VarianteAlgoritmo> getVariantes() {
+        return variantes;
+    }
+
+    public Simulador getSimulador(int i) {
+        return sims.get(i);
+    }
+
+    public String getRunId() {
+        return runId;
+    }
+
+    public void iniciar() {
+        if (corriendo || fallido) {
+            return;
+        }
+        corriendo = true;
+        scheduler.scheduleAtFixedRate(this::tickSafe, 0, base.tickMs, TimeUnit.MILLISECONDS);
+    }
+
+    public void pausar() {
+        corriendo = false;
+    }
+
+    public void continuar() {
+        if (!fallido) {
+            corriendo = true;
+        }
+    }
+
+    /**
+     * Si el modo en vivo se detuvo por el fallo de alguna variante.
+     */
+    public boolean isFallido() {
+        return fallido;
+    }
+
+    public void detener() {
+        corriendo = false;
+        scheduler.shutdownNow();
+        trabajadores.shutdownNow();
+        for (Simulador s : sims) {
+            s.detener();
+        }
+    }
+
+    /**
+     * Corre todas las variantes hasta {@code hastaTick} en paralelo, sin
+     * reloj. Devuelve los resultados en el orden de las variantes.
+     */
+    public List<ResultadoSimulacion> ejecutarHeadless(int hastaTick) throws InterruptedException {
+        if (corriendo || tick > 0) {
+            throw new IllegalStateException("El comparador ya avanzó en modo en vivo");
+        }
+        BufferLlegadas llegadas = BufferLlegadas.de(fuente, hastaTick);
+
+        List<Callable<ResultadoSimulacion>> tareas = new ArrayList<>(sims.size());
+        for (Simulador s : sims) {
+            tareas.add(() -> s.runEventos(llegadas.cursor(), hastaTick));
+        }
+        List<ResultadoSimulacion> out = new ArrayList<>(sims.size());
+        for (Future<ResultadoSimulacion> f : trabajadores.invokeAll(tareas)) {
+            try {
+                out.add(f.get());
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Variante fallida: " + e.getCause(), e.getCause());
+            }
+        }
+        tick = hastaTick;
+        return out;
+    }
+
+    private void tickSafe() {
+        if (!corriendo) {
+            return;
+        }
+        try {
+            tick();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+        } catch (Throwable t) {
+            fallar(-1, t);
+        }
+    }
+
+    private void tick() throws InterruptedException {
+        List<ProcesoSpec> llegadas = fuente.llegadasEn(++tick);
+
+        List<Callable<Void>> tareas = new ArrayList<>(sims.size());
+        for (Simulador s : sims) {
+            tareas.add(() -> {
+                s.tickCoordinado(llegadas);
+                return null;
+            });
+        }
+        // invokeAll hace de barrera: nadie pasa al tick siguiente antes de tiempo
+        List<Future<Void>> hechos = trabajadores.invokeAll(tareas);
+        boolean ok = true;
+        for (int i = 0; i < hechos.size(); i++) {
+            try {
+                hechos.get(i).get();
+            } catch (ExecutionException e) {
+                fallar(i, e.getCause());
+                ok = false;
+            }
+        }
+        if (!ok) {
+            return;
+        }
+
+        if (oyente != null) {
+            for (int i = 0; i < sims.size(); i++) {
+                oyente.onModeloActualizado(i, sims.get(i).getUltimoSnapshot());
+            }
+        }
+    }
+
+    private void fallar(int indice, Throwable t) {
+        fallido = true;
+        corriendo = false;
+        if (indice >= 0) {
+            sims.get(indice).registrarError(t);
+        } else {
+            for (Simulador s : sims) {
+                s.registrarError(t);
+            }
+        }
+        if (oyente != null) {
+            oyente.onFallo(indice, t);
+        }
+    }
+}
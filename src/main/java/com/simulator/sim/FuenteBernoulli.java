@@ -0,0 +1,77 @@
+package com.simulator.sim;
+
+import java.util.List;
+import java.util.Random;
+
+/**
+ * A lo sumo una llegada por tick con probabilidad probNuevoProceso. Es el
+ * mismo flujo que generaba ComparadorAlgoritmos para una semilla dada.
+ */
+public final class FuenteBernoulli implements FuenteLlegadas {
+
+    private final ParametrosSimulacion base;
+    private final Random rng;
+
+    private int nextPid = 1;
+    private int tickSorteado = 0;
+    private ProcesoSpec pendiente;
+    private int tickPendiente;
+
+    public FuenteBernoulli(ParametrosSimulacion base) {
+        this.base = base;
+        this.rng = new Random(base.seed);
+    }
+
+    @Override
+    public int proximaLlegada() {
+        return proximaLlegada(Integer.MAX_VALUE);
+    }
+
+    // con probNuevoProceso chica, sin horizonte se sortearían hasta 2^31 ticks
+    @Override
+    public int proximaLlegada(int hastaTick) {
+        if (pendiente == null && base.probNuevoProceso <= 0) {
+            return Integer.MAX_VALUE;
+        }
+        while (pendiente == null && tickSorteado < hastaTick) {
+            sortear(++tickSorteado);
+        }
+        return pendiente == null ? Integer.MAX_VALUE : tickPendiente;
+    }
+
+    @Override
+    public List<ProcesoSpec> llegadasEn(int tick) {
+        while (pendiente == null && tickSorteado < tick) {
+            sortear(++tickSorteado);
+        }
+        if (pendiente == null || tickPendiente > tick) {
+            return List.of();
+        }
+        if (tickPendiente < tick) {
+            throw new IllegalStateException("Llegada del tick " + tickPendiente + " no consumida");
+        }
+        ProcesoSpec s = pendiente;
+        pendiente = null;
+        return List.of(s);
+    }
+
+    private void sortear(int tick) {
+        if (rng.nextDouble() < base.probNuevoProceso) {
+            int pid = nextPid++;
+            int rafaga = randBetween(base.rafagaMin, base.rafagaMax);
+            int prioridad = randBetween(base.prioridadMin, base.prioridadMax);
+            long seedProc = (base.seed * 31L) ^ pid;
+            pendiente = new ProcesoSpec(pid, "P" + pid, rafaga, prioridad, seedProc);
+            tickPendiente = tick;
+        }
+    }
+
+    private int randBetween(int a, int b) {
+        if (a > b) {
+            int t = a;
+            a = b;
+            b = t;
+        }
+        return a + rng.nextInt(b - a + 1);
+    }
+}
@@ -0,0 +1,27 @@
+package com.simulator.sim;
+
+import java.util.List;
+
+/**
+ * Origen de llegadas por tick para el modo COORDINADO. Los ticks se consultan
+ * en orden no decreciente.
+ */
+public interface FuenteLlegadas {
+
+    /**
+     * Tick de la próxima llegada aún no entregada, o Integer.MAX_VALUE si no
+     * habrá más.
+     */
+    int proximaLlegada();
+
+    /**
+     * Como {@link #proximaLlegada()} pero sin mirar más allá de
+     * {@code hastaTick}: si no hay llegadas hasta ahí devuelve un valor mayor
+     * (Integer.MAX_VALUE). Las fuentes que sortean tick a tick lo acotan.
+     */
+    default int proximaLlegada(int hastaTick) {
+        return proximaLlegada();
+    }
+
+    List<ProcesoSpec> llegadasEn(int tick);
+}
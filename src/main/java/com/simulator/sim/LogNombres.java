@@ -35,6 +35,10 @@ public final class LogNombres {
         return compareDir(runId).resolve("sim-" + alg.name() + ".log");
     }
 
+    public static Path comparePath(String runId, String etiqueta) {
+        return compareDir(runId).resolve("sim-" + etiqueta + ".log");
+    }
+
     public static Path runDir(String runId) {
         Path dir = Paths.get("logs", runId);
         try {
@@ -9,9 +9,18 @@ public final class ParametrosSimulacion {
     public final long seed;
     public final TipoAlgoritmo algoritmo;
     public final Integer quantum;
+    public final int nucleos;
 
     public ParametrosSimulacion(int tickMs, double probNuevoProceso, int rafagaMin, int rafagaMax, int prioridadMin,
             int prioridadMax, long seed, TipoAlgoritmo algoritmo, Integer quantum) {
+        this(tickMs, probNuevoProceso, rafagaMin, rafagaMax, prioridadMin, prioridadMax, seed, algoritmo, quantum, 1);
+    }
+
+    public ParametrosSimulacion(int tickMs, double probNuevoProceso, int rafagaMin, int rafagaMax, int prioridadMin,
+            int prioridadMax, long seed, TipoAlgoritmo algoritmo, Integer quantum, int nucleos) {
+        if (nucleos < 1) {
+            throw new IllegalArgumentException("nucleos debe ser >= 1");
+        }
         this.tickMs = tickMs;
         this.probNuevoProceso = probNuevoProceso;
         this.rafagaMin = rafagaMin;
@@ -21,7 +30,7 @@ public final class ParametrosSimulacion {
         this.seed = seed;
         this.algoritmo = algoritmo;
         this.quantum = quantum;
-
+        this.nucleos = nucleos;
     }
 
     public static ParametrosSimulacion defaultFCFS() {
@@ -3,17 +3,28 @@ package com.simulator.sim;
 import com.simulator.schedule.*;
 
 public final class PlanificadorFactory{
-    public static Planificador crear(TipoAlgoritmo tipo, Integer quantum){
+
+    /** Estructura de la cola de listos para SJF y PRIORIDAD. */
+    public enum Variante {
+        LISTA, HEAP
+    }
+
+    public static Planificador crear(TipoAlgoritmo tipo, Integer quantum, Variante variante){
+        boolean heap = variante == Variante.HEAP;
         return switch (tipo){
             case FCFS -> new PlanificadorFCFS();
             case RR -> new PlanificadorRR(quantum != null ? quantum : 3);
-            case SJF -> new PlanificadorSJF();
-            case PRIORIDAD -> new PlanificadorPrioridad();
-            default -> throw new UnsupportedOperationException("Algotitmo no implementado: " + tipo);
+            case SJF -> heap ? new PlanificadorSJFHeap() : new PlanificadorSJF();
+            case PRIORIDAD -> heap ? new PlanificadorPrioridadHeap() : new PlanificadorPrioridad();
+            default -> throw new UnsupportedOperationException("Algoritmo no implementado: " + tipo);
         };
     }
+
+    public static Planificador crear(TipoAlgoritmo tipo, Integer quantum){
+        return crear(tipo, quantum, Variante.LISTA);
+    }
     
     public static Planificador crear(TipoAlgoritmo alg) {
         return crear(alg, null);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,106 @@
+package com.simulator.sim;
+
+import com.simulator.logging.LogDatos;
+import com.simulator.logging.LogEvento;
+import com.simulator.logging.LogNivel;
+import com.simulator.logging.LoggerSistema;
+
+import java.util.Arrays;
+
+/**
+ * Agrupa los EJECUTAR_TICK e IDLE de cada núcleo en rachas de ticks
+ * consecutivos: una línea por racha en lugar de una por tick.
+ * <p>
+ * Una racha de ejecución se cierra al cambiar de proceso u ocioso, y el
+ * simulador la cierra antes de loguear cualquier transición de su proceso
+ * (despacho, fin, expropiación, acciones de usuario), así que la línea de
+ * la racha siempre precede a la transición que la termina. Cada línea lleva
+ * su rango de ticks, de modo que la línea de tiempo por proceso se
+ * reconstruye exacta.
+ */
+final class RachasLog {
+
+    private static final int NADA = Integer.MIN_VALUE, OCIOSO = -1;
+
+    private final LoggerSistema logger;
+    private final String algoritmo;
+    private final Integer quantum;
+    private final boolean multi;
+
+    // por núcleo: pid de la racha abierta (NADA / OCIOSO) y sus acumulados
+    private final int[] pid;
+    private final int[] desde, hasta;
+    private final long[] sumaCpu;
+    private final int[] memMax;
+    private final int[] rafaga;
+
+    RachasLog(LoggerSistema logger, String algoritmo, Integer quantum, int nucleos) {
+        this.logger = logger;
+        this.algoritmo = algoritmo;
+        this.quantum = quantum;
+        this.multi = nucleos > 1;
+        this.pid = new int[nucleos];
+        this.desde = new int[nucleos];
+        this.hasta = new int[nucleos];
+        this.sumaCpu = new long[nucleos];
+        this.memMax = new int[nucleos];
+        this.rafaga = new int[nucleos];
+        Arrays.fill(pid, NADA);
+    }
+
+    /**
+     * {@code n} ticks de {@code p} en el núcleo, terminando en {@code tick}.
+     */
+    void ejecutar(int c, int tick, int n, int p, int cpu, int mem, int rafagaRestante) {
+        abrir(c, p, tick, n);
+        sumaCpu[c] += (long) cpu * n;
+        memMax[c] = Math.max(memMax[c], mem);
+        rafaga[c] = rafagaRestante;
+    }
+
+    void ocioso(int c, int tick, int n) {
+        abrir(c, OCIOSO, tick, n);
+    }
+
+    void cerrar(int c) {
+        int p = pid[c];
+        if (p == NADA) {
+            return;
+        }
+        pid[c] = NADA;
+        int n = hasta[c] - desde[c] + 1;
+        String nucleo = multi ? ", nucleo=" + c : "";
+        if (p == OCIOSO) {
+            logger.registrar(LogEvento.IDLE, LogNivel.INFO,
+                    new LogDatos(null, "IDLE", null, null, algoritmo, quantum,
+                            "sin procesos listos, ticks=" + desde[c] + "-" + hasta[c] + ", n=" + n + nucleo));
+        } else {
+            logger.registrar(LogEvento.EJECUTAR_TICK, LogNivel.INFO,
+                    new LogDatos(p, "RUNNING", (int) Math.round((double) sumaCpu[c] / n), memMax[c],
+                            algoritmo, quantum,
+                            "ticks=" + desde[c] + "-" + hasta[c] + ", n=" + n
+                                    + ", rafagaRestante=" + rafaga[c] + nucleo));
+        }
+    }
+
+    void cerrarTodas() {
+        for (int c = 0; c < pid.length; c++) {
+            cerrar(c);
+        }
+    }
+
+    // extiende la racha abierta si es del mismo pid y contigua; si no, la cierra y empieza otra
+    private void abrir(int c, int p, int tick, int n) {
+        int primero = tick - n + 1;
+        if (pid[c] == p && hasta[c] + 1 == primero) {
+            hasta[c] = tick;
+            return;
+        }
+        cerrar(c);
+        pid[c] = p;
+        desde[c] = primero;
+        hasta[c] = tick;
+        sumaCpu[c] = 0;
+        memMax[c] = 0;
+    }
+}
@@ -0,0 +1,119 @@
+package com.simulator.sim;
+
+import com.simulator.metrics.EstadisticaMetrica;
+import com.simulator.metrics.ProcesoMetricas;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * Ejecuta réplicas headless de una misma configuración con distintas
+ * semillas, en paralelo, y resume cada métrica con media, varianza e IC 95%.
+ * Cada réplica es una simulación independiente en un solo hilo y los
+ * resultados se combinan en orden de semilla, así que el resumen no depende
+ * de cómo se repartan los hilos.
+ */
+public final class ReplicadorMonteCarlo {
+
+    public static final String[] METRICAS = {
+        "procesos", "espera_prom", "respuesta_prom", "turnaround_prom", "ejecucion_prom"
+    };
+
+    private final ParametrosSimulacion plantilla;
+    private final long ticks;
+    private final int paralelismo;
+
+    public ReplicadorMonteCarlo(ParametrosSimulacion plantilla, long ticks) {
+        this(plantilla, ticks, Runtime.getRuntime().availableProcessors());
+    }
+
+    public ReplicadorMonteCarlo(ParametrosSimulacion plantilla, long ticks, int paralelismo) {
+        if (ticks < 0) {
+            throw new IllegalArgumentException("ticks debe ser >= 0");
+        }
+        this.plantilla = plantilla;
+        this.ticks = ticks;
+        this.paralelismo = Math.max(1, paralelismo);
+    }
+
+    public static long[] semillas(long base, int replicas) {
+        long[] s = new long[replicas];
+        for (int i = 0; i < replicas; i++) {
+            s[i] = base + i;
+        }
+        return s;
+    }
+
+    public List<EstadisticaMetrica> ejecutar(long[] semillas) throws InterruptedException {
+        double[][] porReplica = new double[semillas.length][];
+
+        ForkJoinPool pool = new ForkJoinPool(paralelismo);
+        try {
+            List<Callable<double[]>> tareas = new ArrayList<>(semillas.length);
+            for (long seed : semillas) {
+                tareas.add(() -> replica(seed));
+            }
+            List<Future<double[]>> res = pool.invokeAll(tareas);
+            for (int i = 0; i < res.size(); i++) {
+                porReplica[i] = res.get(i).get();
+            }
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Réplica fallida: " + e.getCause(), e.getCause());
+        } finally {
+            pool.shutdownNow();
+        }
+
+        List<EstadisticaMetrica> out = new ArrayList<>(METRICAS.length);
+        for (int m = 0; m < METRICAS.length; m++) {
+            double[] col = new double[semillas.length];
+            for (int i = 0; i < semillas.length; i++) {
+                col[i] = porReplica[i][m];
+            }
+            out.add(EstadisticaMetrica.de(METRICAS[m], col));
+        }
+        return out;
+    }
+
+    private double[] replica(long seed) {
+        var p = new ParametrosSimulacion(plantilla.tickMs, plantilla.probNuevoProceso,
+                plantilla.rafagaMin, plantilla.rafagaMax,
+                plantilla.prioridadMin, plantilla.prioridadMax,
+                seed, plantilla.algoritmo, plantilla.quantum, plantilla.nucleos);
+        Simulador sim = new Simulador(p, null);
+        try {
+            return promedios(sim.runFor(ticks).metricas());
+        } finally {
+            sim.detener();
+        }
+    }
+
+    // Mismo orden que METRICAS
+    static double[] promedios(List<ProcesoMetricas> lista) {
+        double espera = 0, respuesta = 0, turnaround = 0, ejecucion = 0;
+        int conRespuesta = 0, conTurnaround = 0;
+        for (ProcesoMetricas m : lista) {
+            espera += m.tiempoEspera();
+            ejecucion += m.tiempoEjecucion();
+            if (m.tiempoRespuesta() != null) {
+                respuesta += m.tiempoRespuesta();
+                conRespuesta++;
+            }
+            if (m.turnaround() != null) {
+                turnaround += m.turnaround();
+                conTurnaround++;
+            }
+        }
+        int n = lista.size();
+        return new double[]{
+            n,
+            n == 0 ? 0 : espera / n,
+            conRespuesta == 0 ? 0 : respuesta / conRespuesta,
+            conTurnaround == 0 ? 0 : turnaround / conTurnaround,
+            n == 0 ? 0 : ejecucion / n
+        };
+    }
+}
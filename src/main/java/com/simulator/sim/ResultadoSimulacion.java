@@ -0,0 +1,10 @@
+package com.simulator.sim;
+
+import com.simulator.metrics.ProcesoMetricas;
+import com.simulator.sim.vm.VistaModelo;
+
+import java.util.List;
+
+public record ResultadoSimulacion(VistaModelo vista, List<ProcesoMetricas> metricas) {
+
+}
@@ -2,19 +2,37 @@ package com.simulator.sim;
 
 import com.simulator.core.EstadoProceso;
 import com.simulator.core.Proceso;
+import com.simulator.core.SplitMix64;
+import com.simulator.core.TablaProcesos;
 import com.simulator.logging.*;
+import com.simulator.logging.binario.EscritorLogBinario;
 import com.simulator.logging.format.TablaFijaFormatter;
 import com.simulator.logging.rotate.RotacionPorTamano;
 import com.simulator.schedule.Planificador;
+import com.simulator.sim.bitacora.EscritorBitacora;
+import com.simulator.sim.traza.LectorTraza;
+import com.simulator.sim.traza.LoteLlegadas;
+import com.simulator.sim.vm.DeltaModelo;
 import com.simulator.sim.vm.FilaProcesoVM;
 import com.simulator.sim.vm.VistaModelo;
 import com.simulator.time.RelojDelSistema;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
-import java.util.Random;
 import java.util.concurrent.*;
+import java.util.function.Predicate;
 
 public final class Simulador {
 
@@ -23,7 +41,8 @@ public final class Simulador {
     }
 
     private final ParametrosSimulacion params;
-    private final Planificador planificador;
+    private final int nucleos;
+    private final Planificador[] planificadores;   // una cola de listos por núcleo
     private final LoggerSistema logger;
 
     private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
@@ -31,36 +50,117 @@ public final class Simulador {
     private final List<com.simulator.metrics.ProcesoMetricas> metricasTerminadas
             = new CopyOnWriteArrayList<>();
 
-    private final Random rng;
-    private final List<Proceso> procesos = new ArrayList<>();
+    // Llegadas de AUTOGENERADO: flujo propio del generador por contador, así
+    // su estado es un solo long (ver checkpoint)
+    private final long flujoLlegadas;
+    private long pasoLlegadas;
+    private final TablaProcesos tabla = new TablaProcesos(64);
 
     private volatile boolean corriendo = false;
+    // lo toma cada tick del reloj periódico; pausar() y detener() lo toman
+    // para volver recién cuando no queda un tick a medias
+    private final Object cerrojoTick = new Object();
     private int tick = 0;
     private int nextPid = 1;
     private final ModoGeneracion modo;
 
-    private final ConcurrentLinkedQueue<Runnable> acciones = new ConcurrentLinkedQueue<>();
+    private enum TipoAccion {
+        TERMINAR, SUSPENDER, REANUDAR
+    }
+
+    private record Accion(TipoAccion tipo, int pid) {
+
+    }
+
+    private final ConcurrentLinkedQueue<Accion> acciones = new ConcurrentLinkedQueue<>();
 
     public interface Oyente {
 
         void onModeloActualizado(VistaModelo vm);
     }
     private Oyente oyente;
+
+    /**
+     * Recibe solo las filas que cambiaron (estado, cpu, memoria o ráfaga
+     * restante) y los pid retirados desde la publicación anterior.
+     */
+    public interface OyenteDelta {
+
+        void onDelta(DeltaModelo delta);
+    }
+    private OyenteDelta oyenteDelta;
+    private final RecolectorDelta recolector = new RecolectorDelta();
+    private EscritorBitacora bitacora;
+    private RachasLog rachas;           // null = un EJECUTAR_TICK / IDLE por tick
     private VistaModelo ultimoSnapshot;
+    private boolean publicarPorTick = true;
+
+    // Resultado del último tick, usado por runEventos() para saltar ticks
+    private Proceso enEjecucion;
+    private boolean ultimoTickOcioso;
+
+    // Estado por núcleo del tick en curso
+    private static final byte SIGUE = 0, TERMINO = 1, EXPROPIADO = 2;
+    private final Proceso[] sel;
+    private final boolean[] despachado;
+    private final byte[] resultado;
+    private final int[] cpuDespacho, memDespacho, cpuTick, memTick;
+    private final long[] ticksOcupados;
+    private final long[] migraciones;
+
+    // Con muchos núcleos la fase de avance corre en varios hilos: cada proceso
+    // sortea de su propio flujo (semilla, pid), sin estado compartido.
+    private static final int UMBRAL_PARALELO = 8;
+    private final ForkJoinPool paralelo;
 
     public Simulador(ParametrosSimulacion params, Path logPath) {
         this(params, logPath, ModoGeneracion.AUTOGENERADO);
     }
 
     public Simulador(ParametrosSimulacion params, Path logPath, ModoGeneracion modo) {
+        this(params, logPath, modo, LogNivel.INFO);
+    }
+
+    /**
+     * @param nivelLog nivel mínimo del log; con WARN (p.ej. en benchmarks) los
+     *                 eventos por tick ni siquiera se arman
+     */
+    public Simulador(ParametrosSimulacion params, Path logPath, ModoGeneracion modo, LogNivel nivelLog) {
         this.params = params;
-        this.planificador = PlanificadorFactory.crear(params.algoritmo, params.quantum);
+        this.nucleos = params.nucleos;
+        this.planificadores = new Planificador[nucleos];
+        for (int c = 0; c < nucleos; c++) {
+            // HEAP elige lo mismo que LISTA, empates incluidos (PlanificadorHeapTest),
+            // con inserción/extracción O(log n) en colas largas
+            planificadores[c] = PlanificadorFactory.crear(params.algoritmo, params.quantum,
+                    PlanificadorFactory.Variante.HEAP);
+        }
+        this.sel = new Proceso[nucleos];
+        this.despachado = new boolean[nucleos];
+        this.resultado = new byte[nucleos];
+        this.cpuDespacho = new int[nucleos];
+        this.memDespacho = new int[nucleos];
+        this.cpuTick = new int[nucleos];
+        this.memTick = new int[nucleos];
+        this.ticksOcupados = new long[nucleos];
+        this.migraciones = new long[nucleos];
+        this.paralelo = nucleos >= UMBRAL_PARALELO
+                ? new ForkJoinPool(Math.min(nucleos, Runtime.getRuntime().availableProcessors()))
+                : null;
         this.logger = new LoggerSistema();
-        this.rng = new Random(params.seed);
+        this.flujoLlegadas = SplitMix64.INSTANCIA.flujo(params.seed, -1);
         this.modo = modo;
 
-        var config = LogConfig.basica(logPath, new RotacionPorTamano(5 * 1024 * 1024, 3));
-        logger.iniciar(config, new FileLogWriter(), new TablaFijaFormatter(), new RelojDelSistema());
+        // logPath == null: ejecución sin log (p.ej. barridos headless)
+        if (logPath != null) {
+            // asíncrono: el tick no espera al disco; detener() vacía lo pendiente
+            var config = LogConfig.basica(logPath, new RotacionPorTamano(5 * 1024 * 1024, 3, true))
+                    .conAsincrona(ConfigAsincrona.porDefecto())
+                    .conNivelMinimo(nivelLog);
+            // *.slg: log binario compacto (se lee con LectorLogBinario)
+            LogWriter writer = EscritorLogBinario.esBinario(logPath) ? new EscritorLogBinario() : new FileLogWriter();
+            logger.iniciar(config, writer, new TablaFijaFormatter(), new RelojDelSistema());
+        }
         logger.registrar(
                 LogEvento.INICIO_SIMULACION, LogNivel.INFO,
                 new LogDatos(null, "READY", null, null,
@@ -73,20 +173,62 @@ public final class Simulador {
         this.oyente = oyente;
     }
 
+    /**
+     * Registra cada transición en una bitácora binaria (null la desactiva).
+     * Se escribe desde el hilo del simulador; cerrarla es cosa de quien la
+     * pasa, después de detener().
+     */
+    public void setBitacora(EscritorBitacora bitacora) {
+        this.bitacora = bitacora;
+    }
+
+    /**
+     * Con {@code true}, EJECUTAR_TICK e IDLE se loguean agrupados en rachas
+     * ("ticks=120-131, n=12", cpu media, mem máxima) en vez de uno por tick;
+     * las transiciones siguen saliendo una por una. Configurar antes de correr.
+     */
+    public void setLogAgregado(boolean agregado) {
+        if (rachas != null) {
+            rachas.cerrarTodas();
+        }
+        this.rachas = agregado
+                ? new RachasLog(logger, params.algoritmo.name(), params.quantum, nucleos)
+                : null;
+    }
+
+    /**
+     * Publica deltas por tick en lugar de snapshots completos (si además hay
+     * un {@link Oyente}, éste sigue recibiendo el snapshot). El primer delta
+     * trae todas las filas. Configurar con la simulación detenida o pausada.
+     */
+    public void setOyenteDelta(OyenteDelta oyenteDelta) {
+        this.oyenteDelta = oyenteDelta;
+        tabla.setRastrearCambios(oyenteDelta != null);
+        recolector.reiniciar();
+    }
+
+    /**
+     * Snapshot completo armado en el momento. Llamar desde el hilo del
+     * simulador (p.ej. dentro de un oyente) o con la simulación pausada.
+     */
+    public VistaModelo snapshotCompleto() {
+        return construirSnapshot();
+    }
+
     public VistaModelo getUltimoSnapshot() {
         return ultimoSnapshot;
     }
 
     public void terminarProceso(int pid) {
-        acciones.add(() -> doTerminar(pid));
+        acciones.add(new Accion(TipoAccion.TERMINAR, pid));
     }
 
     public void suspenderProceso(int pid) {
-        acciones.add(() -> doSuspender(pid));
+        acciones.add(new Accion(TipoAccion.SUSPENDER, pid));
     }
 
     public void reanudarProceso(int pid) {
-        acciones.add(() -> doReanudar(pid));
+        acciones.add(new Accion(TipoAccion.REANUDAR, pid));
     }
 
     public void iniciar() {
@@ -100,8 +242,13 @@ public final class Simulador {
         scheduler.scheduleAtFixedRate(this::runTickSafe, 0, params.tickMs, TimeUnit.MILLISECONDS);
     }
 
+    /**
+     * Si hay un tick del reloj periódico en curso, espera a que termine.
+     */
     public void pausar() {
-        corriendo = false;
+        synchronized (cerrojoTick) {
+            corriendo = false;
+        }
     }
 
     public void continuar() {
@@ -109,8 +256,16 @@ public final class Simulador {
     }
 
     public void detener() {
-        corriendo = false;
+        synchronized (cerrojoTick) {
+            corriendo = false;
+        }
         scheduler.shutdownNow();
+        if (paralelo != null) {
+            paralelo.shutdownNow();
+        }
+        if (rachas != null) {
+            rachas.cerrarTodas();
+        }
         logger.registrar(LogEvento.FIN_SIMULACION, LogNivel.INFO, LogDatos.vacio());
         logger.finalizar();
     }
@@ -131,36 +286,379 @@ public final class Simulador {
         return List.copyOf(metricasTerminadas);
     }
 
-    private void runTickSafe() {
-        if (!corriendo) {
-            return;
+    public int getTick() {
+        return tick;
+    }
+
+    public int getNumeroTerminados() {
+        return metricasTerminadas.size();
+    }
+
+    public int getProcesosActivos() {
+        return tabla.contarActivos();
+    }
+
+    public int getNucleos() {
+        return nucleos;
+    }
+
+    /**
+     * Fracción de ticks con un proceso en ejecución, por núcleo.
+     */
+    public double[] getUtilizacionNucleos() {
+        double[] u = new double[nucleos];
+        for (int c = 0; c < nucleos; c++) {
+            u[c] = tick == 0 ? 0 : (double) ticksOcupados[c] / tick;
+        }
+        return u;
+    }
+
+    /**
+     * Procesos que cada núcleo se llevó de otra cola (migraciones entrantes).
+     */
+    public long[] getMigraciones() {
+        return migraciones.clone();
+    }
+
+    private static final int CHECKPOINT_MAGIC = 0x53494D43; // "SIMC"
+    private static final int CHECKPOINT_VERSION = 1;
+
+    /**
+     * Guarda todo el estado necesario para continuar la corrida de forma
+     * idéntica: parámetros, reloj, generadores, tabla de procesos, colas de
+     * cada núcleo (con el estado propio del planificador), métricas y acciones
+     * de usuario aún sin aplicar. El simulador no debe estar corriendo con el
+     * reloj periódico; tras {@link #pausar()} no queda ningún tick a medias.
+     */
+    public void checkpoint(Path archivo) throws IOException {
+        synchronized (cerrojoTick) {
+            if (corriendo) {
+                throw new IllegalStateException("Pausá la simulación antes de hacer checkpoint");
+            }
+            escribirCheckpoint(archivo);
+        }
+    }
+
+    private void escribirCheckpoint(Path archivo) throws IOException {
+        Path dir = archivo.toAbsolutePath().getParent();
+        if (dir != null) {
+            Files.createDirectories(dir);
+        }
+        try (FileChannel canal = FileChannel.open(archivo, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+                DataOutputStream out = new DataOutputStream(
+                        new BufferedOutputStream(Channels.newOutputStream(canal), 1 << 16))) {
+            out.writeInt(CHECKPOINT_MAGIC);
+            out.writeInt(CHECKPOINT_VERSION);
+
+            out.writeInt(params.tickMs);
+            out.writeDouble(params.probNuevoProceso);
+            out.writeInt(params.rafagaMin);
+            out.writeInt(params.rafagaMax);
+            out.writeInt(params.prioridadMin);
+            out.writeInt(params.prioridadMax);
+            out.writeLong(params.seed);
+            out.writeUTF(params.algoritmo.name());
+            out.writeBoolean(params.quantum != null);
+            out.writeInt(params.quantum == null ? 0 : params.quantum);
+            out.writeInt(nucleos);
+            out.writeUTF(modo.name());
+
+            out.writeInt(tick);
+            out.writeInt(nextPid);
+            out.writeLong(pasoLlegadas);
+            out.writeInt(enEjecucion == null ? -1 : enEjecucion.getPid());
+            out.writeBoolean(ultimoTickOcioso);
+
+            tabla.escribir(out);
+
+            for (int c = 0; c < nucleos; c++) {
+                out.writeLong(ticksOcupados[c]);
+                out.writeLong(migraciones[c]);
+                List<Proceso> cola = planificadores[c].enCola();
+                out.writeInt(cola.size());
+                for (Proceso p : cola) {
+                    out.writeInt(p.getPid());
+                    out.writeInt(planificadores[c].contadorDe(p));
+                }
+            }
+
+            List<com.simulator.metrics.ProcesoMetricas> ms = getMetricasTerminadas();
+            out.writeInt(ms.size());
+            for (var m : ms) {
+                out.writeInt(m.pid());
+                out.writeUTF(m.algoritmo());
+                out.writeInt(m.tickLlegada());
+                out.writeInt(m.tickPrimeraEjec());
+                out.writeInt(m.tickFin());
+                out.writeInt(m.rafagaTotal());
+                out.writeInt(m.tiempoEjecucion());
+                out.writeInt(m.tiempoEspera());
+            }
+
+            List<Accion> pendientes = new ArrayList<>(acciones);
+            out.writeInt(pendientes.size());
+            for (Accion a : pendientes) {
+                out.writeByte(a.tipo().ordinal());
+                out.writeInt(a.pid());
+            }
         }
+    }
+
+    public static Simulador restaurar(Path archivo) throws IOException {
+        return restaurar(archivo, null);
+    }
+
+    /**
+     * Reconstruye un simulador desde {@link #checkpoint}. Queda detenido en el
+     * mismo tick; el log (opcional) empieza de cero en {@code logPath}.
+     */
+    public static Simulador restaurar(Path archivo, Path logPath) throws IOException {
+        try (FileChannel canal = FileChannel.open(archivo, StandardOpenOption.READ);
+                DataInputStream in = new DataInputStream(
+                        new BufferedInputStream(Channels.newInputStream(canal), 1 << 16))) {
+            if (in.readInt() != CHECKPOINT_MAGIC) {
+                throw new IOException("No es un checkpoint del simulador: " + archivo);
+            }
+            int version = in.readInt();
+            if (version != CHECKPOINT_VERSION) {
+                throw new IOException("Versión de checkpoint no soportada: " + version);
+            }
+
+            int tickMs = in.readInt();
+            double prob = in.readDouble();
+            int rafagaMin = in.readInt();
+            int rafagaMax = in.readInt();
+            int prioridadMin = in.readInt();
+            int prioridadMax = in.readInt();
+            long seed = in.readLong();
+            TipoAlgoritmo algoritmo = TipoAlgoritmo.valueOf(in.readUTF());
+            boolean conQuantum = in.readBoolean();
+            int quantum = in.readInt();
+            int nucleos = in.readInt();
+            ModoGeneracion modo = ModoGeneracion.valueOf(in.readUTF());
+            var params = new ParametrosSimulacion(tickMs, prob, rafagaMin, rafagaMax, prioridadMin, prioridadMax,
+                    seed, algoritmo, conQuantum ? quantum : null, nucleos);
+
+            Simulador sim = new Simulador(params, logPath, modo);
+            sim.tick = in.readInt();
+            sim.nextPid = in.readInt();
+            sim.pasoLlegadas = in.readLong();
+            int pidEnEjecucion = in.readInt();
+            sim.ultimoTickOcioso = in.readBoolean();
+
+            sim.tabla.leer(in);
+            if (pidEnEjecucion >= 0) {
+                sim.enEjecucion = sim.procesoActivo(pidEnEjecucion);
+            }
+
+            for (int c = 0; c < nucleos; c++) {
+                sim.ticksOcupados[c] = in.readLong();
+                sim.migraciones[c] = in.readLong();
+                Planificador pl = sim.planificadores[c];
+                int n = in.readInt();
+                for (int i = 0; i < n; i++) {
+                    Proceso p = sim.procesoActivo(in.readInt());
+                    pl.agregarProceso(p);
+                    pl.fijarContador(p, in.readInt());
+                }
+            }
+
+            int nm = in.readInt();
+            List<com.simulator.metrics.ProcesoMetricas> ms = new ArrayList<>(nm);
+            for (int i = 0; i < nm; i++) {
+                int pid = in.readInt();
+                String alg = in.readUTF();
+                int llegada = in.readInt();
+                int primera = in.readInt();
+                int fin = in.readInt();
+                ms.add(new com.simulator.metrics.ProcesoMetricas(pid, alg, llegada, primera, fin,
+                        in.readInt(), in.readInt(), in.readInt(),
+                        primera >= 0 ? primera - llegada : null,
+                        fin >= 0 ? fin - llegada : null));
+            }
+            sim.metricasTerminadas.addAll(ms);
+
+            int na = in.readInt();
+            for (int i = 0; i < na; i++) {
+                sim.acciones.add(new Accion(TipoAccion.values()[in.readByte()], in.readInt()));
+            }
+
+            sim.ultimoSnapshot = sim.construirSnapshot();
+            return sim;
+        }
+    }
+
+    private Proceso procesoActivo(int pid) throws IOException {
+        int s = tabla.buscarActivo(pid);
+        if (s < 0) {
+            throw new IOException("Checkpoint inconsistente: pid " + pid + " no está activo");
+        }
+        return tabla.vista(s);
+    }
+
+    /**
+     * Ejecuta {@code ticks} ticks en el hilo llamador, sin esperar a tickMs.
+     * El tiempo simulado queda desacoplado del reloj real.
+     */
+    public ResultadoSimulacion runFor(long ticks) {
+        if (ticks < 0) {
+            throw new IllegalArgumentException("ticks debe ser >= 0");
+        }
+        final long fin = tick + ticks;
+        return runUntil(s -> s.tick >= fin);
+    }
+
+    /**
+     * Ejecuta ticks en el hilo llamador hasta que la condición se cumpla.
+     * La condición se evalúa antes de cada tick.
+     */
+    public ResultadoSimulacion runUntil(Predicate<Simulador> condicion) {
+        return runUntil(condicion, Long.MAX_VALUE);
+    }
+
+    public ResultadoSimulacion runUntil(Predicate<Simulador> condicion, long maxTicks) {
+        if (modo != ModoGeneracion.AUTOGENERADO) {
+            throw new IllegalStateException("Solo aplica runUntil() en modo AUTOGENERADO");
+        }
+        if (corriendo) {
+            throw new IllegalStateException("El simulador ya corre con el reloj periódico");
+        }
+        // el snapshot solo se construye por tick si hay alguien escuchando
+        publicarPorTick = oyente != null || oyenteDelta != null;
         try {
-            runTickAuto();
-        } catch (Throwable t) {
-            logger.registrar(LogEvento.ERROR, LogNivel.ERROR,
-                    new LogDatos(null, null, null, null,
-                            params.algoritmo.name(), params.quantum, "ex=" + t.getMessage()));
+            for (long n = 0; n < maxTicks && !condicion.test(this); n++) {
+                runTickAuto();
+            }
+        } finally {
+            publicarPorTick = true;
         }
+        ultimoSnapshot = construirSnapshot();
+        return new ResultadoSimulacion(ultimoSnapshot, getMetricasTerminadas());
+    }
+
+    /**
+     * Motor de eventos discretos para el modo COORDINADO. Los ticks con
+     * eventos (llegada, fin de ráfaga, quantum agotado, acción de usuario) se
+     * procesan igual que en tickCoordinado(); los intervalos sin eventos se
+     * saltan en bloque cargando ejecución y espera de una vez. Las métricas
+     * coinciden con las del motor por ticks con la misma fuente. Con más de
+     * un núcleo no se salta: cada tick se procesa entero.
+     */
+    public ResultadoSimulacion runEventos(FuenteLlegadas fuente, int hastaTick) {
+        if (modo != ModoGeneracion.COORDINADO) {
+            throw new IllegalStateException("Solo aplica runEventos() en modo COORDINADO");
+        }
+        if (corriendo) {
+            throw new IllegalStateException("El simulador ya corre con el reloj periódico");
+        }
+        publicarPorTick = oyente != null || oyenteDelta != null;
+        try {
+            while (tick < hastaTick) {
+                tickCoordinado(fuente.llegadasEn(tick + 1));
+                // el salto sigue el estado de un solo núcleo (enEjecucion)
+                int salto = nucleos == 1 ? ticksHastaProximoEvento(fuente.proximaLlegada(hastaTick), hastaTick) : 0;
+                if (salto > 0) {
+                    saltarTicks(salto);
+                }
+            }
+        } finally {
+            publicarPorTick = true;
+        }
+        ultimoSnapshot = construirSnapshot();
+        return new ResultadoSimulacion(ultimoSnapshot, getMetricasTerminadas());
+    }
+
+    // Ticks seguidos, tras el actual, que repetirían exactamente el mismo paso
+    private int ticksHastaProximoEvento(int proximaLlegada, int hastaTick) {
+        if (!acciones.isEmpty()) {
+            return 0;
+        }
+        long libres = (long) Math.min(proximaLlegada - 1, hastaTick) - tick;
+        if (enEjecucion != null) {
+            libres = Math.min(libres, enEjecucion.getTiempoRestante() - 1L);
+            libres = Math.min(libres, planificadores[0].ticksHastaPreempcion(enEjecucion) - 1L);
+        } else if (!ultimoTickOcioso) {
+            return 0;
+        }
+        return (int) Math.max(0, libres);
+    }
+
+    private void saltarTicks(int n) {
+        Proceso p0 = enEjecucion;
+        tick += n;
+
+        if (p0 != null) {
+            p0.avanzarTicks(n, tick);
+            planificadores[0].onTicks(p0, n);
+            ticksOcupados[0] += n;
+            if (bitacora != null) {
+                bitacora.ejecutar(tick, 0, p0.getPid(), n, p0.getTiempoRestante(), p0.getCpuUsage(), p0.getMemoria());
+            }
+            if (logger.isEnabled(LogNivel.INFO, LogEvento.EJECUTAR_TICK)) {
+                if (rachas != null) {
+                    rachas.ejecutar(0, tick, n, p0.getPid(), p0.getCpuUsage(), p0.getMemoria(), p0.getTiempoRestante());
+                } else {
+                    logger.registrar(LogEvento.EJECUTAR_TICK, LogNivel.INFO,
+                            new LogDatos(p0.getPid(), "RUNNING",
+                                    p0.getCpuUsage(), p0.getMemoria(),
+                                    params.algoritmo.name(), params.quantum,
+                                    "ticks={}, rafagaRestante={}", n, p0.getTiempoRestante()));
+                }
+            }
+        } else {
+            if (bitacora != null) {
+                bitacora.ocioso(tick, 0, n);
+            }
+            if (logger.isEnabled(LogNivel.INFO, LogEvento.IDLE)) {
+                if (rachas != null) {
+                    rachas.ocioso(0, tick, n);
+                } else {
+                    logger.registrar(LogEvento.IDLE, LogNivel.INFO,
+                            new LogDatos(null, "IDLE", null, null,
+                                    params.algoritmo.name(), params.quantum, "sin procesos listos, ticks={}", n));
+                }
+            }
+        }
+
+        tabla.cerrarTick(tick);
+
+        if (publicarPorTick) {
+            publicar();
+        }
+    }
+
+    private void runTickSafe() {
+        synchronized (cerrojoTick) {
+            if (!corriendo) {
+                return;
+            }
+            try {
+                runTickAuto();
+            } catch (Throwable t) {
+                registrarError(t);
+            }
+        }
+    }
+
+    /**
+     * Deja en el log de este simulador un fallo de tick, propio o de quien lo
+     * coordina (ver ComparadorMultiple).
+     */
+    void registrarError(Throwable t) {
+        logger.registrar(LogEvento.ERROR, LogNivel.ERROR,
+                new LogDatos(null, null, null, null,
+                        params.algoritmo.name(), params.quantum, "ex=" + t.getMessage()));
     }
 
     private void runTickAuto() {
         tick++;
 
         // Llegadas aleatorias
-        if (rng.nextDouble() < params.probNuevoProceso) {
-            Proceso p = crearProcesoAleatorio();
-            procesos.add(p);
-            p.cambiarEstado(EstadoProceso.READY);
-            planificador.agregarProceso(p);
-
-            logger.registrar(LogEvento.CREAR_PROCESO, LogNivel.INFO,
-                    new LogDatos(p.getPid(), "READY", 0, p.getMemoria(),
-                            params.algoritmo.name(), params.quantum,
-                            "rafaga=" + p.getTiempoRestante() + ", prioridad=" + p.getPrioridad()));
-            logger.registrar(LogEvento.CAMBIO_ESTADO, LogNivel.INFO,
-                    new LogDatos(p.getPid(), "READY", 0, p.getMemoria(),
-                            params.algoritmo.name(), params.quantum, "NEW→READY"));
+        if ((SplitMix64.INSTANCIA.bits(flujoLlegadas, pasoLlegadas++) >>> 11) * 0x1.0p-53 < params.probNuevoProceso) {
+            int rafaga = randBetween(params.rafagaMin, params.rafagaMax);
+            int prio = randBetween(params.prioridadMin, params.prioridadMax);
+            llegada(nextPid++, null, rafaga, prio, params.seed);
         }
 
         tickCore();
@@ -170,103 +668,309 @@ public final class Simulador {
         tick++;
         if (llegadas != null) {
             for (ProcesoSpec spec : llegadas) {
-                Proceso p = crearProcesoDesdeSpec(spec);
-                procesos.add(p);
-                p.cambiarEstado(EstadoProceso.READY);
-                planificador.agregarProceso(p);
-
-                logger.registrar(LogEvento.CREAR_PROCESO, LogNivel.INFO,
-                        new LogDatos(p.getPid(), "READY", 0, p.getMemoria(),
-                                params.algoritmo.name(), params.quantum,
-                                "rafaga=" + p.getTiempoRestante() + ", prioridad=" + p.getPrioridad()));
-                logger.registrar(LogEvento.CAMBIO_ESTADO, LogNivel.INFO,
-                        new LogDatos(p.getPid(), "READY", 0, p.getMemoria(),
-                                params.algoritmo.name(), params.quantum, "NEW→READY"));
+                llegada(spec.pid(), spec.nombre(), spec.rafaga(), spec.prioridad(), spec.seed());
             }
         }
         tickCore();
     }
 
+    /**
+     * Como {@link #tickCoordinado(List)} pero con las llegadas en un lote
+     * reutilizable (ver {@link LectorTraza}); el lote debe ser del tick
+     * siguiente.
+     */
+    public void tickCoordinado(LoteLlegadas lote) {
+        tick++;
+        if (lote.size() > 0 && lote.tick() != tick) {
+            throw new IllegalArgumentException("Lote del tick " + lote.tick() + ", se esperaba " + tick);
+        }
+        for (int i = 0, n = lote.size(); i < n; i++) {
+            llegada(lote.pid(i), null, lote.rafaga(i), lote.prioridad(i), lote.seed(i));
+        }
+        tickCore();
+    }
+
+    private void llegada(int pid, String nombre, int rafaga, int prioridad, long seed) {
+        Proceso p = tabla.vista(tabla.alta(pid, nombre, tick, rafaga, prioridad, seed));
+        p.cambiarEstado(EstadoProceso.READY);
+        encolar(p);
+        if (bitacora != null) {
+            bitacora.crear(tick, p);
+        }
+
+        if (logger.isEnabled(LogNivel.INFO, LogEvento.CREAR_PROCESO)) {
+            logger.registrar(LogEvento.CREAR_PROCESO, LogNivel.INFO,
+                    new LogDatos(p.getPid(), "READY", 0, p.getMemoria(),
+                            params.algoritmo.name(), params.quantum,
+                            "rafaga={}, prioridad={}", p.getTiempoRestante(), p.getPrioridad()));
+        }
+        if (logger.isEnabled(LogNivel.INFO, LogEvento.CAMBIO_ESTADO)) {
+            logger.registrar(LogEvento.CAMBIO_ESTADO, LogNivel.INFO,
+                    new LogDatos(p.getPid(), "READY", 0, p.getMemoria(),
+                            params.algoritmo.name(), params.quantum, "NEW→READY"));
+        }
+    }
+
     private void tickCore() {
         procesarAccionesPendientes();
-        Proceso seleccionado = planificador.seleccionarProceso();
+        if (nucleos > 1) {
+            balancear();
+        }
+        for (int c = 0; c < nucleos; c++) {
+            sel[c] = planificadores[c].seleccionarProceso();
+        }
+        enEjecucion = null;
+        ultimoTickOcioso = sel[0] == null;
 
-        if (seleccionado != null) {
-            if (seleccionado.getEstado() == EstadoProceso.READY) {
-                seleccionado.cambiarEstado(EstadoProceso.RUNNING);
-                logger.registrar(LogEvento.CAMBIO_ESTADO, LogNivel.INFO,
-                        new LogDatos(seleccionado.getPid(), "RUNNING",
-                                seleccionado.getCpuUsage(), seleccionado.getMemoria(),
-                                params.algoritmo.name(), params.quantum, "READY→RUNNING"));
+        // Fase 1: cada núcleo avanza su proceso y actualiza solo su cola.
+        // Fase 2, en orden de núcleo: log, métricas y retiro de la tabla.
+        if (paralelo != null) {
+            // la lista de cambios de la tabla no es thread-safe: se anota después
+            tabla.setMarcasDiferidas(true);
+            try {
+                paralelo.invoke(new AvanceNucleos(0, nucleos));
+            } finally {
+                tabla.setMarcasDiferidas(false);
+            }
+            for (int c = 0; c < nucleos; c++) {
+                tabla.marcar(sel[c]);
+            }
+        } else {
+            for (int c = 0; c < nucleos; c++) {
+                avanzarNucleo(c);
+            }
+        }
+        for (int c = 0; c < nucleos; c++) {
+            cerrarNucleo(c);
+        }
+        tabla.cerrarTick(tick);
+
+        if (publicarPorTick) {
+            publicar();
+        }
+    }
+
+    private void avanzarNucleo(int c) {
+        Proceso seleccionado = sel[c];
+        if (seleccionado == null) {
+            return;
+        }
+        Planificador planificador = planificadores[c];
+
+        despachado[c] = seleccionado.getEstado() == EstadoProceso.READY;
+        if (despachado[c]) {
+            seleccionado.cambiarEstado(EstadoProceso.RUNNING);
+            cpuDespacho[c] = seleccionado.getCpuUsage();
+            memDespacho[c] = seleccionado.getMemoria();
+        }
+
+        seleccionado.avanzarTick(tick);
+
+        planificador.onTick(seleccionado);
+        cpuTick[c] = seleccionado.getCpuUsage();
+        memTick[c] = seleccionado.getMemoria();
+        ticksOcupados[c]++;
+
+        if (seleccionado.getEstado() == EstadoProceso.TERMINATED) {
+            resultado[c] = TERMINO;
+            planificador.removerProceso(seleccionado);
+
+        } else if (planificador.debePreemptar(seleccionado)) {
+            resultado[c] = EXPROPIADO;
+            seleccionado.cambiarEstado(EstadoProceso.READY);
+
+            if (planificador instanceof com.simulator.schedule.PlanificadorRR rr) {
+                rr.rotar(seleccionado);
+            } else {
+                planificador.removerProceso(seleccionado);
+                planificador.agregarProceso(seleccionado);
             }
+        } else {
+            resultado[c] = SIGUE;
+        }
+    }
 
-            seleccionado.avanzarTick(tick);
+    private void cerrarNucleo(int c) {
+        Proceso seleccionado = sel[c];
+        sel[c] = null;
+        // con un solo núcleo el "{}" del núcleo no se usa (la plantilla no lo tiene)
+        boolean multi = nucleos > 1;
 
-            planificador.onTick(seleccionado);
+        if (seleccionado == null) {
+            if (bitacora != null) {
+                bitacora.ocioso(tick, c, 1);
+            }
+            if (logger.isEnabled(LogNivel.INFO, LogEvento.IDLE)) {
+                if (rachas != null) {
+                    rachas.ocioso(c, tick, 1);
+                } else {
+                    logger.registrar(LogEvento.IDLE, LogNivel.INFO,
+                            new LogDatos(null, "IDLE", null, null,
+                                    params.algoritmo.name(), params.quantum,
+                                    multi ? "sin procesos listos, nucleo={}" : "sin procesos listos", c));
+                }
+            }
+            return;
+        }
+
+        if (bitacora != null) {
+            if (despachado[c]) {
+                bitacora.despachar(tick, c, seleccionado.getPid(), cpuDespacho[c], memDespacho[c]);
+            }
+            bitacora.ejecutar(tick, c, seleccionado.getPid(), 1, seleccionado.getTiempoRestante(), cpuTick[c], memTick[c]);
+            if (resultado[c] == TERMINO) {
+                bitacora.terminar(tick, c, seleccionado, false);
+            } else if (resultado[c] == EXPROPIADO) {
+                bitacora.expropiar(tick, c, seleccionado.getPid());
+            }
+        }
 
-            logger.registrar(LogEvento.EJECUTAR_TICK, LogNivel.INFO,
+        if (rachas != null && despachado[c]) {
+            rachas.cerrar(c);
+        }
+        boolean logCambio = logger.isEnabled(LogNivel.INFO, LogEvento.CAMBIO_ESTADO);
+        if (despachado[c] && logCambio) {
+            logger.registrar(LogEvento.CAMBIO_ESTADO, LogNivel.INFO,
                     new LogDatos(seleccionado.getPid(), "RUNNING",
-                            seleccionado.getCpuUsage(), seleccionado.getMemoria(),
+                            cpuDespacho[c], memDespacho[c],
                             params.algoritmo.name(), params.quantum,
-                            "rafagaRestante=" + seleccionado.getTiempoRestante()));
+                            multi ? "READY→RUNNING, nucleo={}" : "READY→RUNNING", c));
+        }
+
+        if (logger.isEnabled(LogNivel.INFO, LogEvento.EJECUTAR_TICK)) {
+            if (rachas != null) {
+                rachas.ejecutar(c, tick, 1, seleccionado.getPid(), cpuTick[c], memTick[c],
+                        seleccionado.getTiempoRestante());
+            } else {
+                logger.registrar(LogEvento.EJECUTAR_TICK, LogNivel.INFO,
+                        new LogDatos(seleccionado.getPid(), "RUNNING",
+                                cpuTick[c], memTick[c],
+                                params.algoritmo.name(), params.quantum,
+                                multi ? "rafagaRestante={}, nucleo={}" : "rafagaRestante={}",
+                                seleccionado.getTiempoRestante(), c));
+            }
+        }
+        if (rachas != null && resultado[c] != SIGUE) {
+            rachas.cerrar(c);
+        }
 
-            if (seleccionado.getEstado() == EstadoProceso.TERMINATED) {
+        if (resultado[c] == TERMINO) {
+            if (logCambio) {
                 logger.registrar(LogEvento.CAMBIO_ESTADO, LogNivel.INFO,
                         new LogDatos(seleccionado.getPid(), "TERMINATED", 0, 0,
                                 params.algoritmo.name(), params.quantum, "RUNNING→TERMINATED"));
+            }
+            if (logger.isEnabled(LogNivel.INFO, LogEvento.TERMINAR_PROCESO)) {
                 logger.registrar(LogEvento.TERMINAR_PROCESO, LogNivel.INFO,
                         new LogDatos(seleccionado.getPid(), "TERMINATED", 0, 0,
                                 params.algoritmo.name(), params.quantum, "fin_natural"));
+            }
 
-                metricasTerminadas.add(
-                        com.simulator.metrics.ProcesoMetricas.from(seleccionado, params.algoritmo.name())
-                );
+            metricasTerminadas.add(
+                    com.simulator.metrics.ProcesoMetricas.from(seleccionado, params.algoritmo.name())
+            );
 
-                planificador.removerProceso(seleccionado);
+            tabla.retirar(seleccionado);
 
-            } else if (planificador.debePreemptar(seleccionado)) {
-                seleccionado.cambiarEstado(EstadoProceso.READY);
+        } else if (resultado[c] == EXPROPIADO) {
+            if (logCambio) {
                 logger.registrar(LogEvento.CAMBIO_ESTADO, LogNivel.INFO,
                         new LogDatos(seleccionado.getPid(), "READY", 0, seleccionado.getMemoria(),
                                 params.algoritmo.name(), params.quantum, "preempt: quantum agotado"));
+            }
+        } else if (nucleos == 1) {
+            enEjecucion = seleccionado;
+        }
+    }
 
-                if (planificador instanceof com.simulator.schedule.PlanificadorRR rr) {
-                    rr.rotar(seleccionado);
-                } else {
-                    planificador.removerProceso(seleccionado);
-                    planificador.agregarProceso(seleccionado);
+    /**
+     * Robo de trabajo: cada núcleo sin nada que ejecutar se lleva un proceso
+     * READY del núcleo con más carga (si a éste le queda al menos otro).
+     */
+    private void balancear() {
+        for (int c = 0; c < nucleos; c++) {
+            if (planificadores[c].seleccionarProceso() != null) {
+                continue;
+            }
+            int donante = -1;
+            int max = 1;
+            for (int d = 0; d < nucleos; d++) {
+                int n = planificadores[d].pendientes();
+                if (d != c && n > max) {
+                    max = n;
+                    donante = d;
                 }
             }
+            if (donante < 0) {
+                continue;
+            }
+            Proceso p = planificadores[donante].candidatoMigracion();
+            if (p == null) {
+                continue;
+            }
+            planificadores[donante].removerProceso(p);
+            planificadores[c].agregarProceso(p);
+            tabla.asignarNucleo(p, c);
+            migraciones[c]++;
+            if (bitacora != null) {
+                bitacora.migrar(tick, p.getPid(), donante, c);
+            }
+        }
+    }
 
-            for (Proceso p : procesos) {
-                if (p != seleccionado && p.getEstado() == EstadoProceso.READY) {
-                    p.acumularEsperaUnTick();
+    private void encolar(Proceso p) {
+        int c = 0;
+        if (nucleos > 1) {
+            int min = Integer.MAX_VALUE;
+            for (int i = 0; i < nucleos; i++) {
+                int n = planificadores[i].pendientes();
+                if (n < min) {
+                    min = n;
+                    c = i;
                 }
             }
+        }
+        tabla.asignarNucleo(p, c);
+        planificadores[c].agregarProceso(p);
+    }
 
-        } else {
-            logger.registrar(LogEvento.IDLE, LogNivel.INFO,
-                    new LogDatos(null, "IDLE", null, null,
-                            params.algoritmo.name(), params.quantum, "sin procesos listos"));
+    private Planificador planificadorDe(Proceso p) {
+        return planificadores[tabla.nucleo(p)];
+    }
 
-            for (Proceso p : procesos) {
-                if (p.getEstado() == EstadoProceso.READY) {
-                    p.acumularEsperaUnTick();
-                }
-            }
+    private final class AvanceNucleos extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int desde, hasta;
+
+        AvanceNucleos(int desde, int hasta) {
+            this.desde = desde;
+            this.hasta = hasta;
         }
 
-        ultimoSnapshot = construirSnapshot();
-        if (oyente != null) {
-            oyente.onModeloActualizado(ultimoSnapshot);
+        @Override
+        protected void compute() {
+            if (hasta - desde <= 2) {
+                for (int c = desde; c < hasta; c++) {
+                    avanzarNucleo(c);
+                }
+                return;
+            }
+            int mitad = (desde + hasta) >>> 1;
+            invokeAll(new AvanceNucleos(desde, mitad), new AvanceNucleos(mitad, hasta));
         }
     }
 
     private void procesarAccionesPendientes() {
-        Runnable r;
-        while ((r = acciones.poll()) != null) {
+        Accion a;
+        while ((a = acciones.poll()) != null) {
             try {
-                r.run();
+                switch (a.tipo()) {
+                    case TERMINAR -> doTerminar(a.pid());
+                    case SUSPENDER -> doSuspender(a.pid());
+                    case REANUDAR -> doReanudar(a.pid());
+                }
             } catch (Throwable t) {
                 logger.registrar(LogEvento.ERROR, LogNivel.ERROR,
                         new LogDatos(null, null, null, null,
@@ -277,33 +981,45 @@ public final class Simulador {
     }
 
     private void doTerminar(int pid) {
-        for (Proceso p : procesos) {
-            if (p.getPid() == pid && p.getEstado() != EstadoProceso.TERMINATED) {
-                p.forzarTerminar(tick);
+        int slot = tabla.buscarActivo(pid);
+        if (slot >= 0) {
+            Proceso p = tabla.vista(slot);
+            if (rachas != null) {
+                rachas.cerrar(tabla.nucleo(p));
+            }
+            p.forzarTerminar(tick);
+            if (bitacora != null) {
+                bitacora.terminar(tick, tabla.nucleo(p), p, true);
+            }
 
-                logger.registrar(LogEvento.TERMINAR_PROCESO, LogNivel.WARN,
-                        new LogDatos(p.getPid(), "TERMINATED", 0, 0,
-                                params.algoritmo.name(), params.quantum, "forzado_por_UI"));
+            logger.registrar(LogEvento.TERMINAR_PROCESO, LogNivel.WARN,
+                    new LogDatos(p.getPid(), "TERMINATED", 0, 0,
+                            params.algoritmo.name(), params.quantum, "forzado_por_UI"));
 
-                metricasTerminadas.add(
-                        com.simulator.metrics.ProcesoMetricas.from(p, params.algoritmo.name())
-                );
+            metricasTerminadas.add(
+                    com.simulator.metrics.ProcesoMetricas.from(p, params.algoritmo.name())
+            );
 
-                planificador.removerProceso(p);
-                break;
-            }
+            planificadorDe(p).removerProceso(p);
+            tabla.retirar(slot);
         }
     }
 
     private void doSuspender(int pid) {
-        for (Proceso p : procesos) {
-            if (p.getPid() == pid
-                    && p.getEstado() != EstadoProceso.TERMINATED
-                    && p.getEstado() != EstadoProceso.SUSPENDED) {
+        int slot = tabla.buscarActivo(pid);
+        if (slot >= 0) {
+            Proceso p = tabla.vista(slot);
+            if (p.getEstado() != EstadoProceso.SUSPENDED) {
 
                 EstadoProceso prev = p.getEstado();
+                if (rachas != null) {
+                    rachas.cerrar(tabla.nucleo(p));
+                }
                 p.cambiarEstado(EstadoProceso.SUSPENDED);
-                planificador.removerProceso(p);
+                planificadorDe(p).removerProceso(p);
+                if (bitacora != null) {
+                    bitacora.suspender(tick, p);
+                }
 
                 logger.registrar(LogEvento.CAMBIO_ESTADO, LogNivel.INFO,
                         new LogDatos(p.getPid(), "SUSPENDED", p.getCpuUsage(), p.getMemoria(),
@@ -311,16 +1027,20 @@ public final class Simulador {
                 logger.registrar(LogEvento.SUSPENDER, LogNivel.INFO,
                         new LogDatos(p.getPid(), "SUSPENDED", p.getCpuUsage(), p.getMemoria(),
                                 params.algoritmo.name(), params.quantum, "usuario"));
-                break;
             }
         }
     }
 
     private void doReanudar(int pid) {
-        for (Proceso p : procesos) {
-            if (p.getPid() == pid && p.getEstado() == EstadoProceso.SUSPENDED) {
+        int slot = tabla.buscarActivo(pid);
+        if (slot >= 0) {
+            Proceso p = tabla.vista(slot);
+            if (p.getEstado() == EstadoProceso.SUSPENDED) {
                 p.cambiarEstado(EstadoProceso.READY);
-                planificador.agregarProceso(p);
+                encolar(p);
+                if (bitacora != null) {
+                    bitacora.reanudar(tick, p.getPid());
+                }
 
                 logger.registrar(LogEvento.CAMBIO_ESTADO, LogNivel.INFO,
                         new LogDatos(p.getPid(), "READY", 0, p.getMemoria(),
@@ -328,45 +1048,86 @@ public final class Simulador {
                 logger.registrar(LogEvento.REANUDAR, LogNivel.INFO,
                         new LogDatos(p.getPid(), "READY", 0, p.getMemoria(),
                                 params.algoritmo.name(), params.quantum, "usuario"));
-                break;
             }
         }
     }
 
-    private Proceso crearProcesoAleatorio() {
-        int rafaga = randBetween(params.rafagaMin, params.rafagaMax);
-        int prio = randBetween(params.prioridadMin, params.prioridadMax);
-        return new Proceso(nextPid++, "P" + (nextPid - 1), tick, rafaga, prio, rng);
-    }
-
-    private Proceso crearProcesoDesdeSpec(ProcesoSpec s) {
-        return new Proceso(s.pid(), s.nombre(), tick, s.rafaga(), s.prioridad(), new Random(s.seed()));
-    }
-
     private int randBetween(int a, int b) {
         if (a > b) {
             int t = a;
             a = b;
             b = t;
         }
-        return a + rng.nextInt(b - a + 1);
+        return SplitMix64.INSTANCIA.entre(flujoLlegadas, pasoLlegadas++, a, b);
+    }
+
+    // Con solo un oyente de deltas no se arma el snapshot completo
+    private void publicar() {
+        if (oyente != null || oyenteDelta == null) {
+            ultimoSnapshot = construirSnapshot();
+            if (oyente != null) {
+                oyente.onModeloActualizado(ultimoSnapshot);
+            }
+        }
+        if (oyenteDelta != null) {
+            oyenteDelta.onDelta(recolector.delta());
+        }
     }
 
     private VistaModelo construirSnapshot() {
-        List<FilaProcesoVM> filas = new ArrayList<>();
-        for (Proceso p : procesos) {
-            if (p.getEstado() != EstadoProceso.TERMINATED) {
-                filas.add(new FilaProcesoVM(
-                        p.getPid(),
-                        p.getNombre(),
-                        p.getEstado().name(),
-                        p.getCpuUsage(),
-                        p.getMemoria(),
-                        p.getPrioridad(),
-                        p.getTiempoRestante()
-                ));
-            }
-        }
-        return new VistaModelo(tick, filas.size(), filas);
+        List<FilaProcesoVM> filas = new ArrayList<>(tabla.vivos());
+        for (int i = 0, n = tabla.vivos(); i < n; i++) {
+            int s = tabla.slotVivo(i);
+            if (!tabla.terminado(s)) {
+                filas.add(fila(s));
+            }
+        }
+        return VistaModelo.deLista(tick, filas.size(), filas);
+    }
+
+    private FilaProcesoVM fila(int s) {
+        return new FilaProcesoVM(
+                tabla.pid(s),
+                tabla.nombre(s),
+                tabla.estado(s).name(),
+                tabla.cpu(s),
+                tabla.memoria(s),
+                tabla.prioridad(s),
+                tabla.restante(s)
+        );
+    }
+
+    private final class RecolectorDelta implements TablaProcesos.ReceptorCambios {
+
+        private List<FilaProcesoVM> filas;
+        private int[] retirados = new int[16];
+        private int nRetirados;
+        private long version;
+
+        void reiniciar() {
+            version = 0;
+        }
+
+        DeltaModelo delta() {
+            filas = new ArrayList<>();
+            nRetirados = 0;
+            tabla.recolectarCambios(this);
+            // al publicar no quedan terminados sin retirar
+            return new DeltaModelo(++version, tick, tabla.vivos(),
+                    Collections.unmodifiableList(filas), Arrays.copyOf(retirados, nRetirados));
+        }
+
+        @Override
+        public void cambiado(int slot) {
+            filas.add(fila(slot));
+        }
+
+        @Override
+        public void retirado(int pid) {
+            if (nRetirados == retirados.length) {
+                retirados = Arrays.copyOf(retirados, nRetirados * 2);
+            }
+            retirados[nRetirados++] = pid;
+        }
     }
 }
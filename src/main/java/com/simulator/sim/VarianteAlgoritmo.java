@@ -0,0 +1,21 @@
+package com.simulator.sim;
+
+/**
+ * Algoritmo más su quantum (solo RR), para comparar varios RR a la vez.
+ */
+public record VarianteAlgoritmo(TipoAlgoritmo algoritmo, Integer quantum) {
+
+    public static VarianteAlgoritmo de(TipoAlgoritmo algoritmo) {
+        return new VarianteAlgoritmo(algoritmo, null);
+    }
+
+    public static VarianteAlgoritmo rr(int quantum) {
+        return new VarianteAlgoritmo(TipoAlgoritmo.RR, quantum);
+    }
+
+    public String etiqueta() {
+        return (algoritmo == TipoAlgoritmo.RR && quantum != null)
+                ? algoritmo.name() + "-q" + quantum
+                : algoritmo.name();
+    }
+}
@@ -0,0 +1,127 @@
+package com.simulator.sim.bitacora;
+
+import com.simulator.core.Proceso;
+import com.simulator.sim.ParametrosSimulacion;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static com.simulator.sim.bitacora.FormatoBitacora.*;
+
+/**
+ * Escribe la bitácora de {@link FormatoBitacora} sobre un ByteBuffer directo
+ * preasignado que se vuelca al FileChannel al llenarse y al cerrar. La usa un
+ * solo hilo (el del simulador, ver {@code Simulador.setBitacora}).
+ */
+public final class EscritorBitacora implements AutoCloseable {
+
+    private final FileChannel canal;
+    private final ByteBuffer buf;
+    private long registros;
+
+    public EscritorBitacora(Path destino, ParametrosSimulacion params) throws IOException {
+        this(destino, params, 8192);
+    }
+
+    public EscritorBitacora(Path destino, ParametrosSimulacion params, int registrosEnBuffer) throws IOException {
+        if (params.nucleos > NUCLEOS_MAX) {
+            throw new IllegalArgumentException("La bitácora admite hasta " + NUCLEOS_MAX + " núcleos: " + params.nucleos);
+        }
+        Path dir = destino.toAbsolutePath().getParent();
+        if (dir != null) {
+            Files.createDirectories(dir);
+        }
+        buf = ByteBuffer.allocateDirect(REGISTRO * Math.max(1, registrosEnBuffer)).order(ORDEN);
+        canal = FileChannel.open(destino, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        buf.putInt(MAGIC).putInt(VERSION).putInt(REGISTRO)
+                .putInt(params.algoritmo.ordinal())
+                .putInt(params.quantum == null ? -1 : params.quantum)
+                .putInt(params.nucleos)
+                .putInt(0).putInt(0);
+    }
+
+    public void crear(int tick, Proceso p) {
+        registro(tick, TipoTransicion.CREAR, 0, p.getPid(),
+                p.getTiempoRestante(), p.getPrioridad(), p.getCpuUsage(), p.getMemoria(), 0);
+    }
+
+    public void despachar(int tick, int nucleo, int pid, int cpu, int memoria) {
+        registro(tick, TipoTransicion.DESPACHAR, nucleo, pid, 0, 0, cpu, memoria, 0);
+    }
+
+    public void ejecutar(int tick, int nucleo, int pid, int ticks, int restante, int cpu, int memoria) {
+        registro(tick, TipoTransicion.EJECUTAR, nucleo, pid, restante, ticks, cpu, memoria, 0);
+    }
+
+    public void expropiar(int tick, int nucleo, int pid) {
+        registro(tick, TipoTransicion.EXPROPIAR, nucleo, pid, 0, 0, 0, 0, 0);
+    }
+
+    public void terminar(int tick, int nucleo, Proceso p, boolean forzado) {
+        registro(tick, TipoTransicion.TERMINAR, nucleo, p.getPid(), forzado ? 1 : 0,
+                p.getTickPrimeraEjecucion(), p.getTickFinalizacion(), p.getTiempoEjecucion(), p.getTiempoEspera());
+    }
+
+    public void suspender(int tick, Proceso p) {
+        registro(tick, TipoTransicion.SUSPENDER, 0, p.getPid(), 0, 0, p.getCpuUsage(), p.getMemoria(), 0);
+    }
+
+    public void reanudar(int tick, int pid) {
+        registro(tick, TipoTransicion.REANUDAR, 0, pid, 0, 0, 0, 0, 0);
+    }
+
+    public void ocioso(int tick, int nucleo, int ticks) {
+        registro(tick, TipoTransicion.OCIOSO, nucleo, -1, 0, ticks, 0, 0, 0);
+    }
+
+    public void migrar(int tick, int pid, int desde, int hacia) {
+        registro(tick, TipoTransicion.MIGRAR, hacia, pid, desde, 0, 0, 0, 0);
+    }
+
+    public long registros() {
+        return registros;
+    }
+
+    private void registro(int tick, TipoTransicion tipo, int nucleo, int pid,
+            int v1, int v2, int v3, int v4, int v5) {
+        if (buf.remaining() < REGISTRO) {
+            vaciar();
+        }
+        buf.putInt(tick).putInt(pid).put((byte) tipo.ordinal()).put((byte) 0).putShort((short) nucleo)
+                .putInt(v1).putInt(v2).putInt(v3).putInt(v4).putInt(v5);
+        registros++;
+    }
+
+    /**
+     * Escribe en el archivo lo que haya en el buffer.
+     */
+    public void vaciar() {
+        buf.flip();
+        try {
+            while (buf.hasRemaining()) {
+                canal.write(buf);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            buf.clear();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            vaciar();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } finally {
+            canal.close();
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.simulator.sim.bitacora;
+
+import java.nio.ByteOrder;
+
+/**
+ * Bitácora binaria de transiciones (little-endian):
+ * <pre>
+ * cabecera (32 B): magic "SIMJ" | versión | tamaño de registro | algoritmo
+ *                  (ordinal) | quantum (-1 = sin) | núcleos | 2 int reservados
+ * registro (32 B): tick | pid | tipo (byte) | byte reservado | núcleo
+ *                  (short sin signo) | v1..v5 (int)
+ * </pre>
+ * Valores por tipo:
+ * <ul>
+ * <li>CREAR: rafaga, prioridad, cpu, memoria</li>
+ * <li>DESPACHAR: -, -, cpu, memoria</li>
+ * <li>EJECUTAR: restante, ticks, cpu, memoria</li>
+ * <li>TERMINAR: forzado (0/1), primeraEjec, fin, ejecucion, espera</li>
+ * <li>SUSPENDER: -, -, cpu, memoria</li>
+ * <li>OCIOSO: -, ticks</li>
+ * <li>MIGRAR: núcleo de origen (el del registro es el de destino)</li>
+ * </ul>
+ */
+final class FormatoBitacora {
+
+    static final int MAGIC = 0x4A4D4953; // "SIMJ" en little-endian
+    static final int VERSION = 2;     // 1: núcleo en un byte
+    static final int CABECERA = 32;
+    static final int REGISTRO = 32;
+    static final ByteOrder ORDEN = ByteOrder.LITTLE_ENDIAN;
+    static final int NUCLEOS_MAX = 0xFFFF;
+
+    static final int TICK = 0, PID = 4, TIPO = 8, NUCLEO = 10;
+    static final int V1 = 12, V2 = 16, V3 = 20, V4 = 24, V5 = 28;
+
+    private FormatoBitacora() {
+    }
+}
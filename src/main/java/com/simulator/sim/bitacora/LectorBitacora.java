@@ -0,0 +1,267 @@
+package com.simulator.sim.bitacora;
+
+import com.simulator.core.EstadoProceso;
+import com.simulator.core.IndicePid;
+import com.simulator.metrics.ProcesoMetricas;
+import com.simulator.sim.TipoAlgoritmo;
+import com.simulator.sim.vm.FilaProcesoVM;
+import com.simulator.sim.vm.VistaModelo;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static com.simulator.sim.bitacora.FormatoBitacora.*;
+
+/**
+ * Reconstruye el estado de una corrida a partir de su bitácora, sin volver a
+ * simular: aplica los registros en orden sobre una tabla mínima de procesos
+ * vivos (mismo orden de recorrido que TablaProcesos, así las filas salen en
+ * el mismo orden que en el snapshot del simulador).
+ * <p>
+ * La bitácora debe cubrir la corrida desde el principio. Los nombres se
+ * reconstruyen como "P" + pid. Dentro de un salto del motor de eventos
+ * (EJECUTAR con varios ticks) la ráfaga restante se interpola y cpu/memoria
+ * quedan en el último valor muestreado.
+ */
+public final class LectorBitacora implements AutoCloseable {
+
+    private static final EstadoProceso[] ESTADOS = EstadoProceso.values();
+    private static final byte READY = (byte) EstadoProceso.READY.ordinal();
+    private static final byte RUNNING = (byte) EstadoProceso.RUNNING.ordinal();
+    private static final byte SUSPENDED = (byte) EstadoProceso.SUSPENDED.ordinal();
+
+    private final FileChannel canal;
+    private final long registros;
+    private final TipoAlgoritmo algoritmo;
+    private final ByteBuffer buf = ByteBuffer.allocateDirect(REGISTRO * 8192).order(ORDEN);
+
+    // Estado reconstruido hasta el registro "siguiente" (exclusive)
+    private long siguiente;
+    private long posBuf = -1;       // índice del primer registro en buf
+    private int tickAplicado;
+    private int n;
+    private int[] pid = new int[64];
+    private byte[] estado = new byte[64];
+    private int[] cpu = new int[64];
+    private int[] memoria = new int[64];
+    private int[] prioridad = new int[64];
+    private int[] restante = new int[64];
+    private int[] llegada = new int[64];
+    private int[] rafagaTotal = new int[64];
+    private final IndicePid posicion = new IndicePid(64);
+    private final List<ProcesoMetricas> metricas = new ArrayList<>();
+
+    public LectorBitacora(Path origen) throws IOException {
+        canal = FileChannel.open(origen, StandardOpenOption.READ);
+        try {
+            ByteBuffer cab = ByteBuffer.allocate(CABECERA).order(ORDEN);
+            int leidos;
+            do {
+                leidos = canal.read(cab, cab.position());
+            } while (leidos > 0 && cab.hasRemaining());
+            cab.flip();
+            if (cab.remaining() < CABECERA || cab.getInt() != MAGIC) {
+                throw new IOException("No es una bitácora del simulador: " + origen);
+            }
+            int version = cab.getInt();
+            if (version != VERSION || cab.getInt() != REGISTRO) {
+                throw new IOException("Versión de bitácora no soportada: " + version);
+            }
+            algoritmo = TipoAlgoritmo.values()[cab.getInt()];
+            // un registro incompleto al final (corte abrupto) se ignora
+            registros = (canal.size() - CABECERA) / REGISTRO;
+        } catch (IOException | RuntimeException e) {
+            canal.close();
+            throw e;
+        }
+    }
+
+    public long registros() {
+        return registros;
+    }
+
+    public TipoAlgoritmo algoritmo() {
+        return algoritmo;
+    }
+
+    /**
+     * Tick del último registro, o 0 si está vacía.
+     */
+    public int ultimoTick() throws IOException {
+        if (registros == 0) {
+            return 0;
+        }
+        return registro(registros - 1).getInt(desplazamiento(registros - 1) + TICK);
+    }
+
+    /**
+     * Estado al cierre de {@code tick}, como el snapshot del simulador.
+     */
+    public VistaModelo vistaEn(int tick) throws IOException {
+        if (tick < tickAplicado) {
+            reiniciar();
+        }
+        int interpolado = -1, avance = 0;
+        while (siguiente < registros) {
+            ByteBuffer b = registro(siguiente);
+            int o = desplazamiento(siguiente);
+            int t = b.getInt(o + TICK);
+            if (t > tick) {
+                // salto en bloque que empieza antes de tick: se interpola
+                if (b.get(o + TIPO) == TipoTransicion.EJECUTAR.ordinal() && t - b.getInt(o + V2) < tick) {
+                    interpolado = posicion.get(b.getInt(o + PID));
+                    avance = tick - (t - b.getInt(o + V2));
+                }
+                break;
+            }
+            aplicar(b, o);
+            siguiente++;
+        }
+        tickAplicado = tick;
+
+        List<FilaProcesoVM> filas = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            filas.add(new FilaProcesoVM(pid[i], "P" + pid[i], ESTADOS[estado[i]].name(),
+                    cpu[i], memoria[i], prioridad[i], i == interpolado ? restante[i] - avance : restante[i]));
+        }
+        return VistaModelo.deLista(tick, filas.size(), filas);
+    }
+
+    /**
+     * Métricas de todos los procesos terminados, en el orden en que
+     * terminaron.
+     */
+    public List<ProcesoMetricas> metricas() throws IOException {
+        vistaEn(Integer.MAX_VALUE);
+        return List.copyOf(metricas);
+    }
+
+    private void aplicar(ByteBuffer b, int o) {
+        int t = b.getInt(o + TICK);
+        int p = b.getInt(o + PID);
+        TipoTransicion tipo = TipoTransicion.values()[b.get(o + TIPO)];
+        if (tipo == TipoTransicion.CREAR) {
+            alta(p, t, b.getInt(o + V1), b.getInt(o + V2), b.getInt(o + V3), b.getInt(o + V4));
+            return;
+        }
+        int i = p < 0 ? -1 : posicion.get(p);
+        if (i < 0) {
+            return; // OCIOSO, o un proceso anterior al inicio de la bitácora
+        }
+        switch (tipo) {
+            case DESPACHAR -> {
+                estado[i] = RUNNING;
+                cpu[i] = b.getInt(o + V3);
+                memoria[i] = b.getInt(o + V4);
+            }
+            case EJECUTAR -> {
+                restante[i] = b.getInt(o + V1);
+                cpu[i] = b.getInt(o + V3);
+                memoria[i] = b.getInt(o + V4);
+            }
+            case EXPROPIAR, REANUDAR -> {
+                estado[i] = READY;
+                cpu[i] = 0;
+            }
+            case SUSPENDER -> {
+                estado[i] = SUSPENDED;
+                cpu[i] = b.getInt(o + V3);
+                memoria[i] = b.getInt(o + V4);
+            }
+            case TERMINAR -> {
+                int primera = b.getInt(o + V2);
+                int fin = b.getInt(o + V3);
+                metricas.add(new ProcesoMetricas(p, algoritmo.name(), llegada[i], primera, fin,
+                        rafagaTotal[i], b.getInt(o + V4), b.getInt(o + V5),
+                        primera >= 0 ? primera - llegada[i] : null,
+                        fin >= 0 ? fin - llegada[i] : null));
+                baja(i);
+            }
+            default -> {
+                // MIGRAR no cambia la vista
+            }
+        }
+    }
+
+    private void alta(int p, int tick, int rafaga, int prio, int cpuInicial, int memInicial) {
+        if (n == pid.length) {
+            int c = n * 2;
+            pid = Arrays.copyOf(pid, c);
+            estado = Arrays.copyOf(estado, c);
+            cpu = Arrays.copyOf(cpu, c);
+            memoria = Arrays.copyOf(memoria, c);
+            prioridad = Arrays.copyOf(prioridad, c);
+            restante = Arrays.copyOf(restante, c);
+            llegada = Arrays.copyOf(llegada, c);
+            rafagaTotal = Arrays.copyOf(rafagaTotal, c);
+        }
+        pid[n] = p;
+        estado[n] = READY;
+        cpu[n] = cpuInicial;
+        memoria[n] = memInicial;
+        prioridad[n] = prio;
+        restante[n] = rafaga;
+        llegada[n] = tick;
+        rafagaTotal[n] = rafaga;
+        posicion.put(p, n);
+        n++;
+    }
+
+    // como TablaProcesos.retirar: el último ocupa el hueco
+    private void baja(int i) {
+        posicion.remove(pid[i]);
+        int u = --n;
+        if (i < u) {
+            pid[i] = pid[u];
+            estado[i] = estado[u];
+            cpu[i] = cpu[u];
+            memoria[i] = memoria[u];
+            prioridad[i] = prioridad[u];
+            restante[i] = restante[u];
+            llegada[i] = llegada[u];
+            rafagaTotal[i] = rafagaTotal[u];
+            posicion.put(pid[i], i);
+        }
+    }
+
+    private void reiniciar() {
+        siguiente = 0;
+        tickAplicado = 0;
+        n = 0;
+        posicion.clear();
+        metricas.clear();
+    }
+
+    // Buffer con el registro k cargado (lectura secuencial por bloques)
+    private ByteBuffer registro(long k) throws IOException {
+        if (posBuf < 0 || k < posBuf || k >= posBuf + buf.limit() / REGISTRO) {
+            buf.clear();
+            long bytes = Math.min(buf.capacity(), (registros - k) * REGISTRO);
+            buf.limit((int) bytes);
+            long pos = CABECERA + k * REGISTRO;
+            while (buf.hasRemaining()) {
+                if (canal.read(buf, pos + buf.position()) < 0) {
+                    throw new IOException("Bitácora truncada");
+                }
+            }
+            buf.flip();
+            posBuf = k;
+        }
+        return buf;
+    }
+
+    private int desplazamiento(long k) {
+        return (int) ((k - posBuf) * REGISTRO);
+    }
+
+    @Override
+    public void close() throws IOException {
+        canal.close();
+    }
+}
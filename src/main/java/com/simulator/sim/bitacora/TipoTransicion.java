@@ -0,0 +1,9 @@
+package com.simulator.sim.bitacora;
+
+/**
+ * Tipo de cada registro de la bitácora; se guarda como su ordinal, así que
+ * solo se agregan valores al final.
+ */
+public enum TipoTransicion {
+    CREAR, DESPACHAR, EJECUTAR, EXPROPIAR, TERMINAR, SUSPENDER, REANUDAR, OCIOSO, MIGRAR
+}
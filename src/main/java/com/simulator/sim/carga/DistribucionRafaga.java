@@ -0,0 +1,51 @@
+package com.simulator.sim.carga;
+
+/**
+ * Ráfaga (ticks de CPU, >= 1) de cada proceso generado. Las continuas se
+ * redondean y se recortan a [1, tope].
+ */
+@FunctionalInterface
+public interface DistribucionRafaga {
+
+    int muestra(FlujoAleatorio r);
+
+    static DistribucionRafaga uniforme(int min, int max) {
+        if (Math.min(min, max) <= 0) {
+            throw new IllegalArgumentException("las ráfagas deben ser > 0");
+        }
+        return r -> r.entre(min, max);
+    }
+
+    static DistribucionRafaga exponencial(double media, int tope) {
+        validar(media, tope);
+        return r -> recortar(-media * Math.log(r.uniformeAbierto()), tope);
+    }
+
+    /**
+     * exp(N(mu, sigma)): cola pesada moderada.
+     */
+    static DistribucionRafaga lognormal(double mu, double sigma, int tope) {
+        validar(sigma, tope);
+        return r -> recortar(Math.exp(mu + sigma * r.normal()), tope);
+    }
+
+    /**
+     * Pareto de mínimo xm y forma alfa; alfa <= 2 da varianza infinita.
+     */
+    static DistribucionRafaga pareto(double xm, double alfa, int tope) {
+        validar(xm, tope);
+        validar(alfa, tope);
+        return r -> recortar(xm * Math.pow(r.uniformeAbierto(), -1 / alfa), tope);
+    }
+
+    private static void validar(double parametro, int tope) {
+        if (!(parametro > 0) || tope < 1) {
+            throw new IllegalArgumentException("parámetros de ráfaga inválidos");
+        }
+    }
+
+    private static int recortar(double x, int tope) {
+        long v = Math.round(x);
+        return (int) Math.max(1, Math.min(tope, v));
+    }
+}
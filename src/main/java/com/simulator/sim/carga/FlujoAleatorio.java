@@ -0,0 +1,60 @@
+package com.simulator.sim.carga;
+
+import com.simulator.core.GeneradorAleatorio;
+import com.simulator.core.SplitMix64;
+
+/**
+ * Secuencia de valores de un {@link GeneradorAleatorio} para un flujo fijo.
+ * Uso de un solo hilo; cada generador de carga tiene el suyo.
+ */
+public final class FlujoAleatorio {
+
+    private final GeneradorAleatorio g;
+    private final long flujo;
+    private long paso;
+
+    public FlujoAleatorio(long semilla, int id) {
+        this(SplitMix64.INSTANCIA, semilla, id);
+    }
+
+    public FlujoAleatorio(GeneradorAleatorio g, long semilla, int id) {
+        this.g = g;
+        this.flujo = g.flujo(semilla, id);
+    }
+
+    public long bits() {
+        return g.bits(flujo, paso++);
+    }
+
+    /**
+     * Uniforme en [0, 1).
+     */
+    public double uniforme() {
+        return (bits() >>> 11) * 0x1.0p-53;
+    }
+
+    /**
+     * Uniforme en (0, 1]; apto para logaritmos.
+     */
+    public double uniformeAbierto() {
+        return ((bits() >>> 11) + 1) * 0x1.0p-53;
+    }
+
+    /**
+     * Normal estándar (Box-Muller).
+     */
+    public double normal() {
+        double u = uniformeAbierto();
+        double v = uniforme();
+        return Math.sqrt(-2 * Math.log(u)) * Math.cos(2 * Math.PI * v);
+    }
+
+    public int entre(int a, int b) {
+        if (a > b) {
+            int t = a;
+            a = b;
+            b = t;
+        }
+        return g.entre(flujo, paso++, a, b);
+    }
+}
@@ -0,0 +1,173 @@
+package com.simulator.sim.carga;
+
+import com.simulator.sim.FuenteLlegadas;
+import com.simulator.sim.ProcesoSpec;
+import com.simulator.sim.traza.EscritorTraza;
+import com.simulator.sim.traza.LoteLlegadas;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Carga sintética de los ticks 1..horizonte: un {@link ModeloLlegadas} dice
+ * cuántos procesos llegan y una {@link DistribucionRafaga} su ráfaga. Los pid
+ * son consecutivos desde 1 y todo sale de un único flujo (semilla), así que la
+ * misma configuración da la misma carga.
+ * <p>
+ * Se genera por tick en un lote de arreglos primitivos: {@link #llenar} y
+ * {@link #escribirTraza} no crean objetos por llegada. Es de un solo uso: cada
+ * forma de consumo avanza el mismo generador.
+ */
+public final class GeneradorCarga implements FuenteLlegadas {
+
+    private final ModeloLlegadas modelo;
+    private final DistribucionRafaga rafagas;
+    private final int prioridadMin, prioridadMax;
+    private final long semilla;
+    private final int horizonte;
+    private final FlujoAleatorio r;
+
+    private final LoteLlegadas pendiente = new LoteLlegadas();
+    private boolean hayPendiente;
+    private int tickGenerado;
+    private int nextPid = 1;
+
+    public GeneradorCarga(ModeloLlegadas modelo, DistribucionRafaga rafagas,
+            int prioridadMin, int prioridadMax, long semilla, int horizonte) {
+        if (horizonte < 0) {
+            throw new IllegalArgumentException("horizonte debe ser >= 0");
+        }
+        this.modelo = modelo;
+        this.rafagas = rafagas;
+        this.prioridadMin = prioridadMin;
+        this.prioridadMax = prioridadMax;
+        this.semilla = semilla;
+        this.horizonte = horizonte;
+        this.r = new FlujoAleatorio(semilla, 0);
+    }
+
+    @Override
+    public int proximaLlegada() {
+        if (!hayPendiente) {
+            generar();
+        }
+        return hayPendiente ? pendiente.tick() : Integer.MAX_VALUE;
+    }
+
+    /**
+     * Vacía el lote y le carga las llegadas de {@code tick}, como
+     * {@link com.simulator.sim.traza.LectorTraza#llenar}.
+     */
+    public boolean llenar(int tick, LoteLlegadas lote) {
+        lote.limpiar(tick);
+        if (!tomar(tick)) {
+            return false;
+        }
+        for (int i = 0, n = pendiente.size(); i < n; i++) {
+            lote.agregar(pendiente.pid(i), pendiente.rafaga(i), pendiente.prioridad(i), pendiente.seed(i));
+        }
+        return true;
+    }
+
+    @Override
+    public List<ProcesoSpec> llegadasEn(int tick) {
+        if (!tomar(tick)) {
+            return List.of();
+        }
+        List<ProcesoSpec> r = new ArrayList<>(pendiente.size());
+        for (int i = 0, n = pendiente.size(); i < n; i++) {
+            r.add(spec(i));
+        }
+        return r;
+    }
+
+    /**
+     * Llegadas restantes como stream perezoso.
+     */
+    public Stream<Llegada> stream() {
+        Spliterator<Llegada> sp = new Spliterators.AbstractSpliterator<>(Long.MAX_VALUE,
+                Spliterator.ORDERED | Spliterator.NONNULL) {
+            private int i;
+
+            @Override
+            public boolean tryAdvance(Consumer<? super Llegada> accion) {
+                if (!hayPendiente) {
+                    generar();
+                    i = 0;
+                    if (!hayPendiente) {
+                        return false;
+                    }
+                }
+                accion.accept(new Llegada(pendiente.tick(), spec(i++)));
+                if (i == pendiente.size()) {
+                    hayPendiente = false;
+                }
+                return true;
+            }
+        };
+        return StreamSupport.stream(sp, false);
+    }
+
+    /**
+     * Vuelca toda la carga a una traza binaria. Debe llamarse antes de
+     * consumir nada, para que los pid coincidan con las posiciones.
+     */
+    public long escribirTraza(Path destino) throws IOException {
+        if (tickGenerado != 0) {
+            throw new IllegalStateException("El generador ya fue consumido");
+        }
+        try (EscritorTraza w = new EscritorTraza(destino)) {
+            generar();
+            while (hayPendiente) {
+                for (int i = 0, n = pendiente.size(); i < n; i++) {
+                    w.escribir(pendiente.tick(), pendiente.rafaga(i), pendiente.prioridad(i), pendiente.seed(i));
+                }
+                hayPendiente = false;
+                generar();
+            }
+            return w.registros();
+        }
+    }
+
+    // Entrega el lote pendiente si es de este tick
+    private boolean tomar(int tick) {
+        if (!hayPendiente && tickGenerado < tick) {
+            generar();
+        }
+        if (!hayPendiente || pendiente.tick() > tick) {
+            return false;
+        }
+        if (pendiente.tick() < tick) {
+            throw new IllegalStateException("Llegada del tick " + pendiente.tick() + " no consumida");
+        }
+        hayPendiente = false;
+        return true;
+    }
+
+    // Avanza hasta el próximo tick con llegadas (o hasta el horizonte)
+    private void generar() {
+        while (tickGenerado < horizonte) {
+            int t = ++tickGenerado;
+            int k = modelo.llegadas(t, r);
+            if (k > 0) {
+                pendiente.limpiar(t);
+                for (int j = 0; j < k; j++) {
+                    pendiente.agregar(nextPid++, rafagas.muestra(r), r.entre(prioridadMin, prioridadMax), semilla);
+                }
+                hayPendiente = true;
+                return;
+            }
+        }
+    }
+
+    private ProcesoSpec spec(int i) {
+        return new ProcesoSpec(pendiente.pid(i), null, pendiente.rafaga(i), pendiente.prioridad(i), pendiente.seed(i));
+    }
+}
@@ -0,0 +1,7 @@
+package com.simulator.sim.carga;
+
+import com.simulator.sim.ProcesoSpec;
+
+public record Llegada(int tick, ProcesoSpec spec) {
+
+}
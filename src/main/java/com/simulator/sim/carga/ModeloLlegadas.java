@@ -0,0 +1,68 @@
+package com.simulator.sim.carga;
+
+import java.util.function.IntToDoubleFunction;
+
+/**
+ * Cuántos procesos llegan en cada tick. Se consulta con ticks crecientes;
+ * los modelos con estado (on/off) no deben compartirse entre generadores.
+ */
+@FunctionalInterface
+public interface ModeloLlegadas {
+
+    int llegadas(int tick, FlujoAleatorio r);
+
+    /**
+     * A lo sumo una llegada por tick, como el modo AUTOGENERADO.
+     */
+    static ModeloLlegadas bernoulli(double p) {
+        return (tick, r) -> r.uniforme() < p ? 1 : 0;
+    }
+
+    /**
+     * Poisson de tasa constante: k llegadas por tick.
+     */
+    static ModeloLlegadas poisson(double lambda) {
+        if (lambda < 0) {
+            throw new IllegalArgumentException("lambda debe ser >= 0");
+        }
+        return (tick, r) -> Poisson.muestra(lambda, r);
+    }
+
+    /**
+     * Poisson con tasa dependiente del tick.
+     */
+    static ModeloLlegadas poisson(IntToDoubleFunction tasa) {
+        return (tick, r) -> Poisson.muestra(Math.max(0, tasa.applyAsDouble(tick)), r);
+    }
+
+    /**
+     * Curva diurna: media * (1 + amplitud * sin(2π tick / periodo)), con
+     * amplitud en [0, 1].
+     */
+    static ModeloLlegadas diurna(double media, double amplitud, int periodo) {
+        if (periodo <= 0 || amplitud < 0 || amplitud > 1) {
+            throw new IllegalArgumentException("periodo debe ser > 0 y amplitud estar en [0, 1]");
+        }
+        double w = 2 * Math.PI / periodo;
+        return poisson(tick -> media * (1 + amplitud * Math.sin(w * tick)));
+    }
+
+    /**
+     * MMPP de dos estados (ráfagas on/off): Poisson de tasa tasaOn o tasaOff,
+     * y en cada tick se cambia de estado con probabilidad pSalirOn / pSalirOff.
+     * Arranca en off.
+     */
+    static ModeloLlegadas onOff(double tasaOn, double tasaOff, double pSalirOn, double pSalirOff) {
+        return new ModeloLlegadas() {
+            private boolean on;
+
+            @Override
+            public int llegadas(int tick, FlujoAleatorio r) {
+                if (r.uniforme() < (on ? pSalirOn : pSalirOff)) {
+                    on = !on;
+                }
+                return Poisson.muestra(on ? tasaOn : tasaOff, r);
+            }
+        };
+    }
+}
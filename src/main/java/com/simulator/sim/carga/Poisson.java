@@ -0,0 +1,68 @@
+package com.simulator.sim.carga;
+
+/**
+ * Muestreo Poisson: multiplicación de uniformes para tasas chicas y PTRS
+ * (Hörmann, 1993) para el resto, con costo constante por muestra.
+ */
+final class Poisson {
+
+    private static final double UMBRAL_PTRS = 10;
+    private static final double[] LOG_FACT = new double[256];
+
+    static {
+        for (int i = 1; i < LOG_FACT.length; i++) {
+            LOG_FACT[i] = LOG_FACT[i - 1] + Math.log(i);
+        }
+    }
+
+    private Poisson() {
+    }
+
+    static int muestra(double lambda, FlujoAleatorio r) {
+        if (lambda <= 0) {
+            return 0;
+        }
+        if (lambda < UMBRAL_PTRS) {
+            double l = Math.exp(-lambda);
+            int k = 0;
+            double p = r.uniforme();
+            while (p > l) {
+                k++;
+                p *= r.uniforme();
+            }
+            return k;
+        }
+        double slam = Math.sqrt(lambda);
+        double loglam = Math.log(lambda);
+        double b = 0.931 + 2.53 * slam;
+        double a = -0.059 + 0.02483 * b;
+        double invAlfa = 1.1239 + 1.1328 / (b - 3.4);
+        double vr = 0.9277 - 3.6224 / (b - 2);
+        while (true) {
+            double u = r.uniforme() - 0.5;
+            double v = r.uniforme();
+            double us = 0.5 - Math.abs(u);
+            long k = (long) Math.floor((2 * a / us + b) * u + lambda + 0.43);
+            if (us >= 0.07 && v <= vr) {
+                return (int) k;
+            }
+            if (k < 0 || (us < 0.013 && v > us)) {
+                continue;
+            }
+            if (Math.log(v) + Math.log(invAlfa) - Math.log(a / (us * us) + b)
+                    <= -lambda + k * loglam - logFactorial(k)) {
+                return (int) k;
+            }
+        }
+    }
+
+    // Stirling a partir de la tabla
+    static double logFactorial(long n) {
+        if (n < LOG_FACT.length) {
+            return LOG_FACT[(int) n];
+        }
+        double x = n;
+        return (x + 0.5) * Math.log(x) - x + 0.5 * Math.log(2 * Math.PI)
+                + 1 / (12 * x) - 1 / (360 * x * x * x);
+    }
+}
@@ -0,0 +1,74 @@
+package com.simulator.sim.traza;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static com.simulator.sim.traza.FormatoTraza.*;
+
+/**
+ * Escribe una traza en el formato de {@link FormatoTraza}. El número de
+ * registros de la cabecera se completa al cerrar.
+ */
+public final class EscritorTraza implements AutoCloseable {
+
+    private final FileChannel canal;
+    private final ByteBuffer buf = ByteBuffer.allocateDirect(REGISTRO * 4096).order(ORDEN);
+    private long registros;
+    private int ultimoTick = 1;
+
+    public EscritorTraza(Path destino) throws IOException {
+        Path dir = destino.toAbsolutePath().getParent();
+        if (dir != null) {
+            Files.createDirectories(dir);
+        }
+        canal = FileChannel.open(destino, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        canal.position(CABECERA);
+    }
+
+    public void escribir(int tick, int rafaga, int prioridad, long seed) throws IOException {
+        if (tick < ultimoTick) {
+            throw new IllegalArgumentException("Los ticks deben ser >= 1 y no decrecientes: " + tick
+                    + " después de " + ultimoTick);
+        }
+        if (rafaga <= 0) {
+            throw new IllegalArgumentException("rafaga debe ser > 0");
+        }
+        if (buf.remaining() < REGISTRO) {
+            vaciar();
+        }
+        buf.putInt(tick).putInt(rafaga).putInt(prioridad).putLong(seed);
+        ultimoTick = tick;
+        registros++;
+    }
+
+    public long registros() {
+        return registros;
+    }
+
+    private void vaciar() throws IOException {
+        buf.flip();
+        while (buf.hasRemaining()) {
+            canal.write(buf);
+        }
+        buf.clear();
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            vaciar();
+            buf.putInt(MAGIC).putInt(VERSION).putLong(registros).flip();
+            long pos = 0;
+            while (buf.hasRemaining()) {
+                pos += canal.write(buf, pos);
+            }
+        } finally {
+            canal.close();
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.simulator.sim.traza;
+
+import java.nio.ByteOrder;
+
+/**
+ * Formato binario de trazas de llegadas (little-endian):
+ * <pre>
+ * cabecera (16 B): magic "STRZ" | versión int | registros long
+ * registro (20 B): tick int | rafaga int | prioridad int | seed long
+ * </pre>
+ * Los registros van ordenados por tick (no decreciente). El pid no se guarda:
+ * es la posición del registro + 1.
+ */
+final class FormatoTraza {
+
+    static final int MAGIC = 0x5A525453; // "STRZ" en little-endian
+    static final int VERSION = 1;
+    static final int CABECERA = 16;
+    static final int REGISTRO = 20;
+    static final ByteOrder ORDEN = ByteOrder.LITTLE_ENDIAN;
+
+    private FormatoTraza() {
+    }
+}
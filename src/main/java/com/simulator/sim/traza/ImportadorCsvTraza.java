@@ -0,0 +1,55 @@
+package com.simulator.sim.traza;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Convierte una traza CSV {@code tick,rafaga,prioridad[,seed]} al formato
+ * binario. Una primera línea no numérica se toma como cabecera y se salta.
+ * Las filas deben venir ordenadas por tick.
+ */
+public final class ImportadorCsvTraza {
+
+    private ImportadorCsvTraza() {
+    }
+
+    public static long importar(Path csv, Path destino) throws IOException {
+        try (BufferedReader r = Files.newBufferedReader(csv, StandardCharsets.UTF_8);
+                EscritorTraza w = new EscritorTraza(destino)) {
+            String linea;
+            long nLinea = 0;
+            while ((linea = r.readLine()) != null) {
+                nLinea++;
+                linea = linea.trim();
+                if (linea.isEmpty() || (nLinea == 1 && !Character.isDigit(linea.charAt(0)))) {
+                    continue;
+                }
+                String[] c = linea.split(",");
+                if (c.length < 3 || c.length > 4) {
+                    throw new IllegalArgumentException("Línea " + nLinea + ": se esperaban 3 o 4 columnas");
+                }
+                try {
+                    w.escribir(Integer.parseInt(c[0].trim()),
+                            Integer.parseInt(c[1].trim()),
+                            Integer.parseInt(c[2].trim()),
+                            c.length == 4 ? Long.parseLong(c[3].trim()) : 0L);
+                } catch (IllegalArgumentException e) {
+                    throw new IllegalArgumentException("Línea " + nLinea + ": " + e.getMessage(), e);
+                }
+            }
+            return w.registros();
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("Uso: ImportadorCsvTraza <entrada.csv> <salida.traza>");
+            System.exit(2);
+        }
+        long n = importar(Path.of(args[0]), Path.of(args[1]));
+        System.out.println(n + " registros escritos en " + args[1]);
+    }
+}
@@ -0,0 +1,138 @@
+package com.simulator.sim.traza;
+
+import com.simulator.sim.FuenteLlegadas;
+import com.simulator.sim.ProcesoSpec;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.simulator.sim.traza.FormatoTraza.*;
+
+/**
+ * Reproduce una traza mapeada en memoria. El camino sin asignaciones es
+ * {@link #llenar}: un {@link LoteLlegadas} reutilizado por tick que se pasa a
+ * {@code Simulador.tickCoordinado(LoteLlegadas)}. Como {@link FuenteLlegadas}
+ * también sirve para {@code runEventos} y {@link com.simulator.sim.BufferLlegadas}.
+ * <p>
+ * Los archivos de más de 1 GB se recorren por ventanas.
+ */
+public final class LectorTraza implements FuenteLlegadas, AutoCloseable {
+
+    private static final long REGISTROS_POR_VENTANA = (1L << 30) / REGISTRO;
+
+    private final FileChannel canal;
+    private final long registros;
+
+    private MappedByteBuffer ventana;
+    private long inicioVentana;     // índice del primer registro mapeado
+    private long finVentana;
+    private long i;                 // próximo registro a entregar
+
+    public LectorTraza(Path origen) throws IOException {
+        canal = FileChannel.open(origen, StandardOpenOption.READ);
+        try {
+            ByteBuffer cab = ByteBuffer.allocate(CABECERA).order(ORDEN);
+            int leidos;
+            do {
+                leidos = canal.read(cab, cab.position());
+            } while (leidos > 0 && cab.hasRemaining());
+            cab.flip();
+            if (cab.remaining() < CABECERA || cab.getInt() != MAGIC) {
+                throw new IOException("No es una traza de llegadas: " + origen);
+            }
+            int version = cab.getInt();
+            if (version != VERSION) {
+                throw new IOException("Versión de traza no soportada: " + version);
+            }
+            registros = cab.getLong();
+            if (registros < 0 || canal.size() < CABECERA + registros * REGISTRO) {
+                throw new IOException("Traza truncada: " + origen);
+            }
+        } catch (IOException | RuntimeException e) {
+            canal.close();
+            throw e;
+        }
+    }
+
+    public long registros() {
+        return registros;
+    }
+
+    @Override
+    public int proximaLlegada() {
+        return i < registros ? tickDe(i) : Integer.MAX_VALUE;
+    }
+
+    /**
+     * Vacía el lote y le carga las llegadas de {@code tick}. Devuelve si hubo
+     * alguna.
+     */
+    public boolean llenar(int tick, LoteLlegadas lote) {
+        lote.limpiar(tick);
+        if (i < registros && tickDe(i) < tick) {
+            throw new IllegalStateException("Llegada del tick " + tickDe(i) + " no consumida");
+        }
+        while (i < registros && tickDe(i) == tick) {
+            int pos = posicion(i);
+            lote.agregar((int) (i + 1), ventana.getInt(pos + 4), ventana.getInt(pos + 8), ventana.getLong(pos + 12));
+            i++;
+        }
+        return lote.size() > 0;
+    }
+
+    @Override
+    public List<ProcesoSpec> llegadasEn(int tick) {
+        if (i < registros && tickDe(i) < tick) {
+            throw new IllegalStateException("Llegada del tick " + tickDe(i) + " no consumida");
+        }
+        List<ProcesoSpec> r = null;
+        while (i < registros && tickDe(i) == tick) {
+            int pos = posicion(i);
+            if (r == null) {
+                r = new ArrayList<>(2);
+            }
+            r.add(new ProcesoSpec((int) (i + 1), null,
+                    ventana.getInt(pos + 4), ventana.getInt(pos + 8), ventana.getLong(pos + 12)));
+            i++;
+        }
+        return r == null ? List.of() : r;
+    }
+
+    private int tickDe(long k) {
+        return ventana(k).getInt(posicion(k));
+    }
+
+    private int posicion(long k) {
+        ventana(k);
+        return (int) ((k - inicioVentana) * REGISTRO);
+    }
+
+    private MappedByteBuffer ventana(long k) {
+        if (ventana == null || k < inicioVentana || k >= finVentana) {
+            long n;
+            try {
+                n = Math.min(REGISTROS_POR_VENTANA, registros - k);
+                ventana = canal.map(FileChannel.MapMode.READ_ONLY, CABECERA + k * REGISTRO, n * REGISTRO);
+                ventana.order(ORDEN);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            inicioVentana = k;
+            finVentana = k + n;
+        }
+        return ventana;
+    }
+
+    @Override
+    public void close() throws IOException {
+        ventana = null;
+        canal.close();
+    }
+}
@@ -0,0 +1,73 @@
+package com.simulator.sim.traza;
+
+import java.util.Arrays;
+
+/**
+ * Llegadas de un tick en arreglos primitivos. Se reutiliza de tick en tick:
+ * {@link LectorTraza#llenar} lo vacía y lo vuelve a llenar sin crear objetos.
+ */
+public final class LoteLlegadas {
+
+    private int tick;
+    private int n;
+    private int[] pid;
+    private int[] rafaga;
+    private int[] prioridad;
+    private long[] seed;
+
+    public LoteLlegadas() {
+        this(16);
+    }
+
+    public LoteLlegadas(int capacidadInicial) {
+        int c = Math.max(1, capacidadInicial);
+        pid = new int[c];
+        rafaga = new int[c];
+        prioridad = new int[c];
+        seed = new long[c];
+    }
+
+    public void limpiar(int tick) {
+        this.tick = tick;
+        this.n = 0;
+    }
+
+    public void agregar(int pid, int rafaga, int prioridad, long seed) {
+        if (n == this.pid.length) {
+            int c = n * 2;
+            this.pid = Arrays.copyOf(this.pid, c);
+            this.rafaga = Arrays.copyOf(this.rafaga, c);
+            this.prioridad = Arrays.copyOf(this.prioridad, c);
+            this.seed = Arrays.copyOf(this.seed, c);
+        }
+        this.pid[n] = pid;
+        this.rafaga[n] = rafaga;
+        this.prioridad[n] = prioridad;
+        this.seed[n] = seed;
+        n++;
+    }
+
+    public int tick() {
+        return tick;
+    }
+
+    public int size() {
+        return n;
+    }
+
+    public int pid(int i) {
+        return pid[i];
+    }
+
+    public int rafaga(int i) {
+        return rafaga[i];
+    }
+
+    public int prioridad(int i) {
+        return prioridad[i];
+    }
+
+    public long seed(int i) {
+        return seed[i];
+    }
+}
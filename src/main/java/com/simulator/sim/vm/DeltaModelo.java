@@ -0,0 +1,35 @@
+package com.simulator.sim.vm;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Cambios desde la publicación anterior: filas nuevas o modificadas y pid que
+ * dejaron la tabla. La primera de una suscripción trae todas las filas.
+ */
+public record DeltaModelo(long version, int tick, int procesosActivos,
+        List<FilaProcesoVM> cambiadas, int[] retirados) {
+
+    // el record compararía retirados por identidad
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof DeltaModelo d
+                && version == d.version && tick == d.tick && procesosActivos == d.procesosActivos
+                && cambiadas.equals(d.cambiadas) && Arrays.equals(retirados, d.retirados);
+    }
+
+    @Override
+    public int hashCode() {
+        int h = Long.hashCode(version);
+        h = 31 * h + tick;
+        h = 31 * h + procesosActivos;
+        h = 31 * h + cambiadas.hashCode();
+        return 31 * h + Arrays.hashCode(retirados);
+    }
+
+    @Override
+    public String toString() {
+        return "DeltaModelo[version=" + version + ", tick=" + tick + ", procesosActivos=" + procesosActivos
+                + ", cambiadas=" + cambiadas + ", retirados=" + Arrays.toString(retirados) + "]";
+    }
+}
@@ -0,0 +1,37 @@
+package com.simulator.sim.vm;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Mantiene el modelo completo del lado del consumidor aplicando deltas, para
+ * quien necesite un {@link VistaModelo} entero solo de vez en cuando.
+ */
+public final class VistaIncremental {
+
+    private final Map<Integer, FilaProcesoVM> filas = new LinkedHashMap<>();
+    private int tick;
+    private int procesosActivos;
+    private long version = -1;
+
+    public void aplicar(DeltaModelo d) {
+        for (int pid : d.retirados()) {
+            filas.remove(pid);
+        }
+        for (FilaProcesoVM f : d.cambiadas()) {
+            filas.put(f.pid(), f);
+        }
+        tick = d.tick();
+        procesosActivos = d.procesosActivos();
+        version = d.version();
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public VistaModelo vista() {
+        return VistaModelo.deLista(tick, procesosActivos, new ArrayList<>(filas.values()));
+    }
+}
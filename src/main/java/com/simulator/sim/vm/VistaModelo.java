@@ -1,5 +1,6 @@
 package com.simulator.sim.vm;
 
+import java.util.Collections;
 import java.util.List;
 
 public final class VistaModelo {
@@ -8,10 +9,24 @@ public final class VistaModelo {
     private final int procesoActivos;
     private final List<FilaProcesoVM> filas;
 
-    public VistaModelo(int tick, int procesosActivos, List<FilaProcesoVM> filas) {
+    private VistaModelo(int tick, int procesosActivos, List<FilaProcesoVM> filas) {
         this.tick = tick;
         this.procesoActivos = procesosActivos;
-        this.filas = List.copyOf(filas);
+        this.filas = filas;
+    }
+
+    /**
+     * Con una copia inmutable de {@code filas}.
+     */
+    public static VistaModelo de(int tick, int procesosActivos, List<FilaProcesoVM> filas) {
+        return new VistaModelo(tick, procesosActivos, List.copyOf(filas));
+    }
+
+    /**
+     * Sin copiar la lista: quien la construyó no debe volver a tocarla.
+     */
+    public static VistaModelo deLista(int tick, int procesosActivos, List<FilaProcesoVM> filas) {
+        return new VistaModelo(tick, procesosActivos, Collections.unmodifiableList(filas));
     }
 
     public int getTick() {
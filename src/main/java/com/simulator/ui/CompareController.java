@@ -1,12 +1,11 @@
 package com.simulator.ui;
 
+import com.simulator.metrics.SerieTemporal;
 import com.simulator.sim.LogNombres;
 import com.simulator.sim.ParametrosSimulacion;
 import com.simulator.sim.ProcesoSpec;
 import com.simulator.sim.Simulador;
 import com.simulator.sim.TipoAlgoritmo;
-import com.simulator.sim.vm.FilaProcesoVM;
-import javafx.application.Platform;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
@@ -17,7 +16,6 @@ import java.nio.file.Path;
 import java.text.DecimalFormat;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
 import java.util.Random;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
@@ -70,8 +68,10 @@ public class CompareController {
 
     private String runId;
 
-    private final java.util.List<Integer> serieActivosA = new java.util.ArrayList<>();
-    private final java.util.List<Integer> serieActivosB = new java.util.ArrayList<>();
+    // se llenan en el hilo del scheduler
+    private final SerieTemporal serieActivosA = new SerieTemporal();
+    private final SerieTemporal serieActivosB = new SerieTemporal();
+    private RefrescoTabla refrescoA, refrescoB;
 
     public void configurar(ParametrosSimulacion baseParams, TipoAlgoritmo a, TipoAlgoritmo b) {
         this.base = baseParams;
@@ -99,8 +99,14 @@ public class CompareController {
         simA = new Simulador(paramsA, logA, Simulador.ModoGeneracion.COORDINADO);
         simB = new Simulador(paramsB, logB, Simulador.ModoGeneracion.COORDINADO);
 
-        simA.setOyente(vm -> Platform.runLater(() -> actualizarTablaA(vm.getTick(), vm.getFilas())));
-        simB.setOyente(vm -> Platform.runLater(() -> actualizarTablaB(vm.getTick(), vm.getFilas())));
+        simA.setOyente(vm -> {
+            serieActivosA.registrar(vm.getTick(), vm.getFilas().size());
+            refrescoA.publicar(vm);
+        });
+        simB.setOyente(vm -> {
+            serieActivosB.registrar(vm.getTick(), vm.getFilas().size());
+            refrescoB.publicar(vm);
+        });
 
         rng = new Random(base.seed);
     }
@@ -129,6 +135,15 @@ public class CompareController {
         tblB.getSortOrder().setAll(colCpuB);
         colCpuB.setSortType(TableColumn.SortType.DESCENDING);
 
+        refrescoA = new RefrescoTabla(tblA, datosA, vm -> {
+            lblTickA.setText("Tick A: " + vm.getTick());
+            lblActivosA.setText("Activos A: " + vm.getFilas().size());
+        });
+        refrescoB = new RefrescoTabla(tblB, datosB, vm -> {
+            lblTickB.setText("Tick B: " + vm.getTick());
+            lblActivosB.setText("Activos B: " + vm.getFilas().size());
+        });
+
         ctxA.setOnShowing(e -> {
             var vm = tblA.getSelectionModel().getSelectedItem();
             pidMenuA = (vm != null) ? vm.pid.get() : null;
@@ -221,8 +236,10 @@ public class CompareController {
         paused = false;
         tick = 0;
         nextPid = 1;
-        serieActivosA.clear();
-        serieActivosB.clear();
+        serieActivosA.limpiar();
+        serieActivosB.limpiar();
+        refrescoA.iniciar();
+        refrescoB.iniciar();
 
         scheduler = Executors.newSingleThreadScheduledExecutor();
         scheduler.scheduleAtFixedRate(this::tickCoordinado, 0, base.tickMs, TimeUnit.MILLISECONDS);
@@ -242,25 +259,24 @@ public class CompareController {
             return;
         }
 
-        int maxTicks = Math.max(serieActivosA.size(), serieActivosB.size());
-        var x = new javafx.scene.chart.NumberAxis("Tick", 1, Math.max(maxTicks, 1), 1);
+        var x = new javafx.scene.chart.NumberAxis();
+        x.setLabel("Tick");
+        x.setForceZeroInRange(false);
         var y = new javafx.scene.chart.NumberAxis();
         y.setLabel("Activos");
 
         var chart = new javafx.scene.chart.LineChart<Number, Number>(x, y);
         chart.setTitle("Evolución de activos (A/B)");
+        chart.setCreateSymbols(false);
+        chart.setAnimated(false);
 
         var sA = new javafx.scene.chart.XYChart.Series<Number, Number>();
         sA.setName("A (" + algA.name() + ")");
-        for (int i = 0; i < serieActivosA.size(); i++) {
-            sA.getData().add(new javafx.scene.chart.XYChart.Data<>(i + 1, serieActivosA.get(i)));
-        }
+        sA.getData().setAll(datosGrafico(serieActivosA.muestra(ANCHO_EVOLUCION)));
 
         var sB = new javafx.scene.chart.XYChart.Series<Number, Number>();
         sB.setName("B (" + algB.name() + ")");
-        for (int i = 0; i < serieActivosB.size(); i++) {
-            sB.getData().add(new javafx.scene.chart.XYChart.Data<>(i + 1, serieActivosB.get(i)));
-        }
+        sB.getData().setAll(datosGrafico(serieActivosB.muestra(ANCHO_EVOLUCION)));
 
         chart.getData().setAll(sA, sB);
 
@@ -269,7 +285,7 @@ public class CompareController {
         dlg.initOwner(btnStartAmbos.getScene().getWindow());
         dlg.setResizable(true);
         dlg.getDialogPane().setContent(chart);
-        dlg.getDialogPane().setPrefSize(860, 480);
+        dlg.getDialogPane().setPrefSize(ANCHO_EVOLUCION, 480);
         dlg.getDialogPane().getButtonTypes().add(ButtonType.CLOSE);
         com.simulator.ui.AppStyles.apply(dlg);
         dlg.showAndWait();
@@ -308,6 +324,8 @@ public class CompareController {
         }
         simA.detener();
         simB.detener();
+        refrescoA.detener();
+        refrescoB.detener();
 
         refreshButtonsAB();
     }
@@ -386,63 +404,15 @@ public class CompareController {
         }
     }
 
-    private void actualizarTablaA(int tk, List<FilaProcesoVM> filas) {
-        lblTickA.setText("Tick A: " + tk);
-        lblActivosA.setText("Activos A: " + filas.size());
-
-        Integer seleccionado = Optional.ofNullable(tblA.getSelectionModel().getSelectedItem())
-                .map(vm -> vm.pid.get()).orElse(null);
-
-        datosA.setAll(filas.stream()
-                .map(f -> new ProcesoVM(f.pid(), f.nombre(), f.estado(),
-                f.cpu(), f.memoria(), f.prioridad(), f.rafagaRestante()))
-                .toList());
+    // a lo sumo un punto por píxel del diálogo de evolución
+    private static final int ANCHO_EVOLUCION = 860;
 
-        if (seleccionado != null) {
-            for (int i = 0; i < datosA.size(); i++) {
-                if (datosA.get(i).pid.get() == seleccionado) {
-                    tblA.getSelectionModel().select(i);
-                    tblA.scrollTo(i);
-                    break;
-                }
-            }
-        }
-        if (serieActivosA.size() == tk - 1) {
-            serieActivosA.add(filas.size());
-        } else if (tk - 1 < serieActivosA.size()) {
-            serieActivosA.set(tk - 1, filas.size());
+    private static List<javafx.scene.chart.XYChart.Data<Number, Number>> datosGrafico(SerieTemporal.Puntos puntos) {
+        List<javafx.scene.chart.XYChart.Data<Number, Number>> datos = new ArrayList<>(puntos.size());
+        for (int i = 0; i < puntos.size(); i++) {
+            datos.add(new javafx.scene.chart.XYChart.Data<>(puntos.ticks()[i], puntos.valores()[i]));
         }
-
-    }
-
-    private void actualizarTablaB(int tk, List<FilaProcesoVM> filas) {
-        lblTickB.setText("Tick B: " + tk);
-        lblActivosB.setText("Activos B: " + filas.size());
-
-        Integer seleccionado = Optional.ofNullable(tblB.getSelectionModel().getSelectedItem())
-                .map(vm -> vm.pid.get()).orElse(null);
-
-        datosB.setAll(filas.stream()
-                .map(f -> new ProcesoVM(f.pid(), f.nombre(), f.estado(),
-                f.cpu(), f.memoria(), f.prioridad(), f.rafagaRestante()))
-                .toList());
-
-        if (seleccionado != null) {
-            for (int i = 0; i < datosB.size(); i++) {
-                if (datosB.get(i).pid.get() == seleccionado) {
-                    tblB.getSelectionModel().select(i);
-                    tblB.scrollTo(i);
-                    break;
-                }
-            }
-        }
-
-        if (serieActivosB.size() == tk - 1) {
-            serieActivosB.add(filas.size());
-        } else if (tk - 1 < serieActivosB.size()) {
-            serieActivosB.set(tk - 1, filas.size());
-        }
-
+        return datos;
     }
 
     @FXML
@@ -1,5 +1,6 @@
 package com.simulator.ui;
 
+import com.simulator.sim.vm.FilaProcesoVM;
 import javafx.beans.property.*;
 
 public class ProcesoVM {
@@ -12,6 +13,8 @@ public class ProcesoVM {
     public final IntegerProperty prioridad = new SimpleIntegerProperty();
     public final IntegerProperty rafaga = new SimpleIntegerProperty();
 
+    int frame;      // último frame de RefrescoTabla en que apareció
+
     public ProcesoVM(int pid, String nombre, String estado, int cpu, int mem, int prioridad, int rafaga) {
         this.pid.set(pid);
         this.nombre.set(nombre);
@@ -21,4 +24,16 @@ public class ProcesoVM {
         this.prioridad.set(prioridad);
         this.rafaga.set(rafaga);
     }
+
+    /**
+     * Copia los valores de la fila; las propiedades sin cambio no notifican.
+     */
+    public void actualizar(FilaProcesoVM f) {
+        nombre.set(f.nombre());
+        estado.set(f.estado());
+        cpu.set(f.cpu());
+        mem.set(f.memoria());
+        prioridad.set(f.prioridad());
+        rafaga.set(f.rafagaRestante());
+    }
 }
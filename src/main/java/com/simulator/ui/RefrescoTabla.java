@@ -0,0 +1,111 @@
+package com.simulator.ui;
+
+import com.simulator.sim.vm.FilaProcesoVM;
+import com.simulator.sim.vm.VistaModelo;
+import javafx.animation.AnimationTimer;
+import javafx.collections.ObservableList;
+import javafx.scene.control.TableView;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * Une las actualizaciones del simulador que llegan entre dos frames: el hilo
+ * del simulador solo deja el último modelo (gana el más reciente) y un
+ * AnimationTimer lo aplica una vez por pulso. Las filas existentes se
+ * actualizan en su lugar por pid; solo se agregan o quitan las que cambian.
+ */
+final class RefrescoTabla {
+
+    private final AtomicReference<VistaModelo> pendiente = new AtomicReference<>();
+    private final TableView<ProcesoVM> tabla;
+    private final ObservableList<ProcesoVM> datos;
+    private final Consumer<VistaModelo> alAplicar;
+    private final Map<Integer, ProcesoVM> porPid = new HashMap<>();
+    private int frame;
+
+    private final AnimationTimer timer = new AnimationTimer() {
+        @Override
+        public void handle(long ahora) {
+            aplicarPendiente();
+        }
+    };
+
+    /**
+     * @param alAplicar se llama en el hilo de FX tras aplicar cada modelo
+     *                  (etiquetas, etc.)
+     */
+    RefrescoTabla(TableView<ProcesoVM> tabla, ObservableList<ProcesoVM> datos, Consumer<VistaModelo> alAplicar) {
+        this.tabla = tabla;
+        this.datos = datos;
+        this.alAplicar = alAplicar;
+    }
+
+    /**
+     * Desde cualquier hilo.
+     */
+    void publicar(VistaModelo vm) {
+        pendiente.set(vm);
+    }
+
+    void iniciar() {
+        timer.start();
+    }
+
+    /**
+     * Detiene el pulso y aplica el último modelo, si quedó alguno.
+     */
+    void detener() {
+        timer.stop();
+        aplicarPendiente();
+    }
+
+    private void aplicarPendiente() {
+        VistaModelo vm = pendiente.getAndSet(null);
+        if (vm != null) {
+            aplicar(vm);
+        }
+    }
+
+    private void aplicar(VistaModelo vm) {
+        frame++;
+        List<ProcesoVM> nuevos = new ArrayList<>();
+        for (FilaProcesoVM f : vm.getFilas()) {
+            ProcesoVM p = porPid.get(f.pid());
+            if (p == null) {
+                p = new ProcesoVM(f.pid(), f.nombre(), f.estado(),
+                        f.cpu(), f.memoria(), f.prioridad(), f.rafagaRestante());
+                porPid.put(f.pid(), p);
+                nuevos.add(p);
+            } else {
+                p.actualizar(f);
+            }
+            p.frame = frame;
+        }
+
+        if (porPid.size() > vm.getFilas().size()) {
+            List<ProcesoVM> idos = new ArrayList<>();
+            for (ProcesoVM p : porPid.values()) {
+                if (p.frame != frame) {
+                    idos.add(p);
+                }
+            }
+            for (ProcesoVM p : idos) {
+                porPid.remove(p.pid.get());
+            }
+            datos.removeAll(idos);
+        }
+        if (!nuevos.isEmpty()) {
+            datos.addAll(nuevos);
+        }
+        // un solo reordenamiento por frame, no por tick
+        if (!tabla.getSortOrder().isEmpty()) {
+            tabla.sort();
+        }
+        alAplicar.accept(vm);
+    }
+}
@@ -1,10 +1,9 @@
 package com.simulator.ui;
 
+import com.simulator.metrics.SerieTemporal;
 import com.simulator.sim.LogNombres;
 import com.simulator.sim.ParametrosSimulacion;
 import com.simulator.sim.Simulador;
-import com.simulator.sim.vm.FilaProcesoVM;
-import javafx.application.Platform;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
@@ -12,7 +11,6 @@ import javafx.scene.control.*;
 
 import java.nio.file.Path;
 import java.text.DecimalFormat;
-import java.util.List;
 import java.util.Optional;
 import javafx.beans.binding.Bindings;
 
@@ -43,7 +41,10 @@ public class SingleRunController {
 
     private boolean running = false;
     private boolean paused = false;
-    private final java.util.List<Integer> serieActivos = new java.util.ArrayList<>();
+    // se llena en el hilo del simulador (todas las muestras, aunque la tabla
+    // solo se refresque una vez por frame)
+    private final SerieTemporal serieActivos = new SerieTemporal();
+    private RefrescoTabla refresco;
 
     public void configurar(ParametrosSimulacion params) {
         this.params = params;
@@ -52,7 +53,10 @@ public class SingleRunController {
         Path logPath = LogNombres.runPath(runId, params.algoritmo);
 
         sim = new Simulador(params, logPath, Simulador.ModoGeneracion.AUTOGENERADO);
-        sim.setOyente(vm -> Platform.runLater(() -> actualizarTabla(vm.getTick(), vm.getFilas())));
+        sim.setOyente(vm -> {
+            serieActivos.registrar(vm.getTick(), vm.getFilas().size());
+            refresco.publicar(vm);
+        });
     }
 
     @FXML
@@ -69,6 +73,11 @@ public class SingleRunController {
         tbl.getSortOrder().setAll(colCpu);
         colCpu.setSortType(TableColumn.SortType.DESCENDING);
 
+        refresco = new RefrescoTabla(tbl, datos, vm -> {
+            lblTick.setText("Tick: " + vm.getTick());
+            lblActivos.setText("Activos: " + vm.getFilas().size());
+        });
+
         ctxMenu.setOnShowing(e -> {
             var vm = tbl.getSelectionModel().getSelectedItem();
             pidMenu = (vm != null) ? vm.pid.get() : null;
@@ -117,7 +126,8 @@ public class SingleRunController {
         if (sim == null || running) {
             return;
         }
-        serieActivos.clear();
+        serieActivos.limpiar();
+        refresco.iniciar();
         sim.iniciar();
         running = true;
         paused = false;
@@ -147,6 +157,7 @@ public class SingleRunController {
         }
 
         sim.detener();
+        refresco.detener();
         running = false;
         paused = false;
         refreshButtons();
@@ -229,43 +240,6 @@ public class SingleRunController {
         btnPause.setText(paused ? "Reanudar" : "Pausar");
     }
 
-    private void actualizarTabla(int tick, List<FilaProcesoVM> filas) {
-        Integer seleccionado = getSelectedPid().orElse(null);
-
-        lblTick.setText("Tick: " + tick);
-        lblActivos.setText("Activos: " + filas.size());
-
-        datos.setAll(
-                filas.stream()
-                        .map(f -> new ProcesoVM(
-                        f.pid(),
-                        f.nombre(),
-                        f.estado(),
-                        f.cpu(),
-                        f.memoria(),
-                        f.prioridad(),
-                        f.rafagaRestante()))
-                        .toList()
-        );
-
-        if (seleccionado != null) {
-            for (int i = 0; i < datos.size(); i++) {
-                if (datos.get(i).pid.get() == seleccionado) {
-                    tbl.getSelectionModel().select(i);
-                    tbl.scrollTo(i);
-                    break;
-                }
-            }
-        }
-
-        if (serieActivos.size() == tick - 1) {
-            serieActivos.add(filas.size());
-        } else if (tick - 1 < serieActivos.size()) {
-            serieActivos.set(tick - 1, filas.size());
-        }
-
-    }
-
     @FXML
     private void onShowEvolucion() {
         if (serieActivos.isEmpty()) {
@@ -274,20 +248,27 @@ public class SingleRunController {
             return;
         }
 
-        var x = new javafx.scene.chart.NumberAxis("Tick", 1, Math.max(serieActivos.size(), 1), 1);
+        var x = new javafx.scene.chart.NumberAxis();
+        x.setLabel("Tick");
+        x.setForceZeroInRange(false);
         var y = new javafx.scene.chart.NumberAxis();
         y.setLabel("Activos");
 
         var chart = new javafx.scene.chart.LineChart<Number, Number>(x, y);
         chart.setTitle("Evolución de activos por tick");
+        chart.setCreateSymbols(false);
+        chart.setAnimated(false);
 
         var serie = new javafx.scene.chart.XYChart.Series<Number, Number>();
 
         serie.setName("Activos");
-        for (int i = 0; i < serieActivos.size(); i++) {
-            int tick = i + 1;
-            serie.getData().add(new javafx.scene.chart.XYChart.Data<>(tick, serieActivos.get(i)));
+        // a lo sumo un punto por píxel del diálogo
+        var puntos = serieActivos.muestra(ANCHO_EVOLUCION);
+        var datosSerie = new java.util.ArrayList<javafx.scene.chart.XYChart.Data<Number, Number>>(puntos.size());
+        for (int i = 0; i < puntos.size(); i++) {
+            datosSerie.add(new javafx.scene.chart.XYChart.Data<>(puntos.ticks()[i], puntos.valores()[i]));
         }
+        serie.getData().setAll(datosSerie);
         chart.getData().add(serie);
 
         var dlg = new Dialog<Void>();
@@ -295,7 +276,7 @@ public class SingleRunController {
         dlg.initOwner(btnStart.getScene().getWindow());
         dlg.setResizable(true);
         dlg.getDialogPane().setContent(chart);
-        dlg.getDialogPane().setPrefSize(720, 420);
+        dlg.getDialogPane().setPrefSize(ANCHO_EVOLUCION, 420);
         dlg.getDialogPane().getButtonTypes().add(ButtonType.CLOSE);
         com.simulator.ui.AppStyles.apply(dlg);
         dlg.showAndWait();
@@ -306,6 +287,8 @@ public class SingleRunController {
         return (vm == null) ? Optional.empty() : Optional.of(vm.pid.get());
     }
 
+    private static final int ANCHO_EVOLUCION = 720;
+
     private static final DecimalFormat DF = new DecimalFormat("#,##0.##");
 
     private static String fmt(double v) {
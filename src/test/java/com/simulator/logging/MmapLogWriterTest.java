@@ -0,0 +1,63 @@
+package com.simulator.logging;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class MmapLogWriterTest {
+
+    @Test
+    void cerradoRechazaForceYTamano() throws Exception {
+        Path dir = Files.createTempDirectory("mmap");
+        Path archivo = dir.resolve("sim.log");
+        try {
+            MmapLogWriter w = new MmapLogWriter(4096, 0);
+            w.abrir(new LogConfig(archivo, null, false, LogNivel.INFO, null));
+            w.escribir("uno");
+            w.escribir("dos");
+            w.force();
+            long tam = w.tamanoLogico();
+            w.cerrar();
+
+            assertEquals(tam, Files.size(archivo));
+            assertEquals(List.of("uno", "dos"), Files.readAllLines(archivo));
+            assertThrows(IllegalStateException.class, w::force);
+            assertThrows(IllegalStateException.class, w::tamanoLogico);
+            assertThrows(IllegalStateException.class, () -> w.escribir("tres"));
+            assertDoesNotThrow(w::vaciar);
+            assertDoesNotThrow(w::cerrar);
+        } finally {
+            Files.deleteIfExists(archivo);
+            Files.deleteIfExists(dir);
+        }
+    }
+
+    @Test
+    void sinAppendNoQuedaNadaDelArchivoAnterior() throws Exception {
+        Path dir = Files.createTempDirectory("mmap");
+        Path archivo = dir.resolve("sim.log");
+        try {
+            Files.writeString(archivo, "viejo\n".repeat(2000));
+            MmapLogWriter w = new MmapLogWriter(4096, 0);
+            w.abrir(new LogConfig(archivo, null, false, LogNivel.INFO, null));
+            w.escribir("nuevo");
+            w.force();
+            // sin cerrar: es lo que vería una recuperación tras una caída
+            MmapLogWriter r = new MmapLogWriter(4096, 0);
+            r.abrir(new LogConfig(archivo, null, true, LogNivel.INFO, null));
+            r.escribir("despues");
+            r.cerrar();
+            assertEquals(List.of("nuevo", "despues"), Files.readAllLines(archivo));
+            w.cerrar();
+        } finally {
+            Files.deleteIfExists(archivo);
+            Files.deleteIfExists(dir);
+        }
+    }
+}
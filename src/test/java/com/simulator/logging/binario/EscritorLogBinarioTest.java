@@ -0,0 +1,68 @@
+package com.simulator.logging.binario;
+
+import com.simulator.logging.LogConfig;
+import com.simulator.logging.LogDatos;
+import com.simulator.logging.LogEvento;
+import com.simulator.logging.LogMeta;
+import com.simulator.logging.LogNivel;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Los detalles diferidos viajan como plantilla + argumentos: la tabla de
+ * cadenas no se llena aunque cada detalle completado sea distinto.
+ */
+class EscritorLogBinarioTest {
+
+    private static final int N = FormatoLogBinario.MAX_CADENAS + 4464;   // 70000
+
+    @Test
+    void plantillaYArgumentosIdaYVuelta() throws Exception {
+        Path dir = Files.createTempDirectory("slg");
+        Path archivo = dir.resolve("ejecutar.slg");
+        try {
+            EscritorLogBinario w = new EscritorLogBinario();
+            w.abrir(new LogConfig(archivo, null, false, LogNivel.TRACE, null));
+            List<String> esperados = new ArrayList<>(N + 1);
+            for (int i = 0; i < N; i++) {
+                LogDatos d = new LogDatos(i, "RUNNING", i % 101, 10 + i % 490, "RR", 4,
+                        "rafagaRestante={}, nucleo={}", N - i, i % 8);
+                w.escribir(new LogMeta(Instant.ofEpochMilli(1_000_000L + i), LogNivel.INFO, LogEvento.EJECUTAR_TICK),
+                        d, null);
+                esperados.add(i + "|" + d.detalle());
+            }
+            LogDatos libre = new LogDatos(-1, null, null, null, null, null, "texto {} sin argumentos");
+            w.escribir(new LogMeta(Instant.ofEpochMilli(1_000_000L + N), LogNivel.WARN, LogEvento.ERROR), libre, null);
+            esperados.add("-1|texto {} sin argumentos");
+            w.cerrar();
+
+            // ~17 B por registro; con el detalle completado serían más de 40
+            long tam = Files.size(archivo);
+            assertTrue(tam < 20L * N, "tamaño " + tam + " B para " + N + " registros");
+
+            List<String> leidos = new ArrayList<>(N + 1);
+            long n = new LectorLogBinario(archivo).leer((meta, d) -> {
+                leidos.add(d.pid + "|" + d.detalle());
+                if (meta.evento() == LogEvento.EJECUTAR_TICK) {
+                    assertEquals(1_000_000L + d.pid, meta.timestamp().toEpochMilli());
+                    assertEquals(d.pid % 101, (int) d.cpu);
+                    assertEquals(10 + d.pid % 490, (int) d.mem);
+                    assertEquals("RR", d.algoritmo);
+                }
+            });
+            assertEquals(N + 1, n);
+            assertEquals(esperados, leidos);
+        } finally {
+            Files.deleteIfExists(archivo);
+            Files.deleteIfExists(dir);
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.simulator.logging.format;
+
+import com.simulator.logging.LogDatos;
+import com.simulator.logging.LogEvento;
+import com.simulator.logging.LogMeta;
+import com.simulator.logging.LogNivel;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * La salida debe ser idéntica, byte a byte, a la del formatter anterior
+ * basado en String.format (reproducido en {@link #referencia}).
+ */
+class TablaFijaFormatterTest {
+
+    private static final TablaAnchos W = new TablaAnchos();
+    private static final String FORMATO = "%-" + W.ts + "s | %-" + W.evento + "s | %"
+            + W.pid + "s | %-" + W.estado + "s | %"
+            + W.cpu + "s | %" + W.mem + "s | %-" + W.alg + "s | %"
+            + W.q + "s | %s";
+    private static final DateTimeFormatter TS_FMT
+            = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSS").withZone(ZoneId.systemDefault());
+
+    private final TablaFijaFormatter f = new TablaFijaFormatter();
+
+    @Test
+    void cabeceraYSeparador() {
+        assertEquals(String.format(FORMATO,
+                "TIMESTAMP", "EVENTO", "PID", "ESTADO", "CPU%", "MEM", "ALGORITMO", "QUANTUM", "DETALLE"),
+                f.cabecera());
+        assertEquals("-".repeat(W.ts + 1) + "+" + "-".repeat(W.evento + 2) + "+"
+                + "-".repeat(W.pid + 2) + "+" + "-".repeat(W.estado + 2) + "+"
+                + "-".repeat(W.cpu + 2) + "+" + "-".repeat(W.mem + 2) + "+"
+                + "-".repeat(W.alg + 2) + "+" + "-".repeat(W.q + 2) + "+"
+                + "-".repeat(29), f.separador());
+    }
+
+    @Test
+    void columnasNulas() {
+        Instant t = Instant.parse("2024-03-05T10:20:30.456Z");
+        comparar(t, LogEvento.FIN_SIMULACION, LogDatos.vacio());
+        comparar(t, LogEvento.IDLE, new LogDatos(null, "IDLE", null, null, "RR", null, "sin procesos listos"));
+        comparar(t, LogEvento.ERROR, new LogDatos(7, null, 50, null, null, 3, null));
+    }
+
+    @Test
+    void enterosNegativosYGrandes() {
+        Instant t = Instant.parse("2024-03-05T10:20:30.007Z");
+        for (int v : new int[]{0, -1, 9, -42, 99_999, 123_456_789, Integer.MAX_VALUE, Integer.MIN_VALUE}) {
+            comparar(t, LogEvento.EJECUTAR_TICK, new LogDatos(v, "RUNNING", v, v, "SJF", v, "x=" + v));
+        }
+        // textos más anchos que la columna no se recortan
+        comparar(t, LogEvento.CAMBIO_ESTADO,
+                new LogDatos(1, "UN_ESTADO_MUY_LARGO", 5, 10, "ALGORITMO_LARGO", 2, "READY→RUNNING"));
+    }
+
+    @Test
+    void detalleDiferido() {
+        Instant t = Instant.parse("2024-03-05T10:20:30.000Z");
+        comparar(t, LogEvento.EJECUTAR_TICK,
+                new LogDatos(3, "RUNNING", 40, 128, "RR", 4, "rafagaRestante={}, nucleo={}", 12, 1));
+        comparar(t, LogEvento.CREAR_PROCESO, new LogDatos(3, "READY", 0, 64, "RR", 4, "rafaga={}", -5));
+    }
+
+    @Test
+    void cambioDeSegundoYMilisegundos() {
+        // la misma instancia: el prefijo cacheado debe renovarse al cambiar de segundo
+        List<String> instantes = List.of(
+                "2024-12-31T23:59:58.999Z", "2024-12-31T23:59:59.000Z", "2024-12-31T23:59:59.001Z",
+                "2024-12-31T23:59:59.010Z", "2024-12-31T23:59:59.100Z", "2024-12-31T23:59:59.999Z",
+                "2025-01-01T00:00:00.000Z", "2024-12-31T23:59:59.500Z", "2025-01-01T00:00:00.000999999Z");
+        for (String s : instantes) {
+            comparar(Instant.parse(s), LogEvento.CAMBIO_TICK, new LogDatos(1, "READY", 1, 1, "FCFS", null, ""));
+        }
+    }
+
+    @Test
+    void anioDeCincoCifras() {
+        for (String s : List.of("9999-12-31T23:59:59.999Z", "+10000-01-01T00:00:00.123Z",
+                "+10000-01-01T00:00:00.124Z", "2024-01-01T00:00:00.000Z")) {
+            comparar(Instant.parse(s), LogEvento.INICIO_SIMULACION,
+                    new LogDatos(null, "READY", null, null, "RR", 2, "tickMs=1"));
+        }
+    }
+
+    @Test
+    void agregaSinTocarLoPrevio() {
+        Instant t = Instant.parse("2024-03-05T10:20:30.456Z");
+        LogDatos d = new LogDatos(12, "READY", 30, 200, "PRIORIDAD", null, "NEW→READY");
+        StringBuilder sb = new StringBuilder("previo|");
+        f.formatear(new LogMeta(t, LogNivel.INFO, LogEvento.CAMBIO_ESTADO), d, sb);
+        assertEquals("previo|" + referencia(t, LogEvento.CAMBIO_ESTADO, d), sb.toString());
+    }
+
+    private void comparar(Instant t, LogEvento e, LogDatos d) {
+        assertEquals(referencia(t, e, d), f.formatear(new LogMeta(t, LogNivel.INFO, e), d));
+    }
+
+    private static String referencia(Instant t, LogEvento e, LogDatos d) {
+        return String.format(FORMATO,
+                TS_FMT.format(t),
+                e.name(),
+                d.pid == null ? "-" : String.valueOf(d.pid),
+                d.estado == null ? "-" : d.estado,
+                d.cpu == null ? "-" : (d.cpu + "%"),
+                d.mem == null ? "-" : (d.mem + "MB"),
+                d.algoritmo == null ? "-" : d.algoritmo,
+                d.quantum == null ? "-" : String.valueOf(d.quantum),
+                d.detalle());
+    }
+}
@@ -0,0 +1,137 @@
+package com.simulator.schedule;
+
+import com.simulator.core.EstadoProceso;
+import com.simulator.core.Proceso;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * Las versiones con heap deben elegir exactamente lo mismo que las de lista.
+ */
+class PlanificadorHeapTest {
+
+    @Test
+    void sjfHeapEligeLoMismoQueLista() {
+        for (long semilla = 1; semilla <= 20; semilla++) {
+            mismaSecuencia(new PlanificadorSJF(), new PlanificadorSJFHeap(), semilla);
+        }
+    }
+
+    @Test
+    void prioridadHeapEligeLoMismoQueLista() {
+        for (long semilla = 1; semilla <= 20; semilla++) {
+            mismaSecuencia(new PlanificadorPrioridad(), new PlanificadorPrioridadHeap(), semilla);
+        }
+    }
+
+    @Test
+    void empatesSeDesempatanPorPid() {
+        Planificador[] sjf = {new PlanificadorSJF(), new PlanificadorSJFHeap()};
+        Planificador[] prio = {new PlanificadorPrioridad(), new PlanificadorPrioridadHeap()};
+        for (Planificador[] par : List.of(sjf, prio)) {
+            Proceso p5 = listo(5, 3, 2), p3 = listo(3, 3, 2), p4 = listo(4, 3, 2);
+            for (Planificador pl : par) {
+                pl.agregarProceso(p5);
+                pl.agregarProceso(p3);
+                pl.agregarProceso(p4);
+            }
+            for (Proceso esperado : List.of(p3, p4, p5)) {
+                assertSame(esperado, par[0].seleccionarProceso());
+                assertSame(esperado, par[1].seleccionarProceso());
+                par[0].removerProceso(esperado);
+                par[1].removerProceso(esperado);
+            }
+            assertNull(par[0].seleccionarProceso());
+            assertNull(par[1].seleccionarProceso());
+        }
+    }
+
+    @Test
+    void sjfSigueAlProcesoQueEjecuta() {
+        Planificador lista = new PlanificadorSJF(), heap = new PlanificadorSJFHeap();
+        // la ráfaga del que ejecuta solo baja: el heap debe reubicarlo (decrease-key)
+        Proceso p1 = listo(1, 4, 1), p7 = listo(7, 5, 1);
+        for (Planificador pl : List.of(lista, heap)) {
+            pl.agregarProceso(p7);
+            pl.agregarProceso(p1);
+        }
+        assertSame(p1, heap.seleccionarProceso());
+        assertSame(p1, lista.seleccionarProceso());
+        p1.cambiarEstado(EstadoProceso.RUNNING);
+        for (int t = 1; t <= 3; t++) {
+            p1.avanzarTick(t);
+            lista.onTick(p1);
+            heap.onTick(p1);
+            assertSame(lista.seleccionarProceso(), heap.seleccionarProceso());
+        }
+        assertEquals(1, p1.getTiempoRestante());
+    }
+
+    // Altas, selecciones, ejecución, expropiaciones, bajas, terminaciones
+    // forzadas y terminados que quedan en cola, con claves en rangos chicos
+    // para forzar empates
+    private static void mismaSecuencia(Planificador lista, Planificador heap, long semilla) {
+        Random r = new Random(semilla);
+        List<Proceso> enCola = new ArrayList<>();
+        int pid = 0;
+        for (int tick = 1; tick <= 5000; tick++) {
+            int op = r.nextInt(10);
+            if (op < 3 || enCola.isEmpty()) {
+                Proceso p = listo(pid++, 1 + r.nextInt(4), 1 + r.nextInt(3));
+                lista.agregarProceso(p);
+                heap.agregarProceso(p);
+                enCola.add(p);
+            } else if (op == 3) {
+                Proceso p = enCola.remove(r.nextInt(enCola.size()));
+                lista.removerProceso(p);
+                heap.removerProceso(p);
+            } else if (op == 4) {
+                // como Simulador.doTerminar: forzarTerminar cambia la ráfaga, se saca enseguida
+                Proceso p = enCola.remove(r.nextInt(enCola.size()));
+                p.forzarTerminar(tick);
+                lista.removerProceso(p);
+                heap.removerProceso(p);
+            }
+
+            Proceso elegido = lista.seleccionarProceso();
+            assertSame(elegido, heap.seleccionarProceso(), "semilla " + semilla + ", tick " + tick);
+            if (elegido == null || op < 5) {
+                continue;
+            }
+            if (elegido.getEstado() == EstadoProceso.READY) {
+                elegido.cambiarEstado(EstadoProceso.RUNNING);
+            }
+            elegido.avanzarTick(tick);
+            lista.onTick(elegido);
+            heap.onTick(elegido);
+            if (elegido.getEstado() == EstadoProceso.TERMINATED) {
+                if (op == 8) {
+                    // terminado que queda en cola: ambos deben saltearlo
+                    continue;
+                }
+                enCola.remove(elegido);
+                lista.removerProceso(elegido);
+                heap.removerProceso(elegido);
+            } else if (op == 9) {
+                elegido.cambiarEstado(EstadoProceso.READY);
+                for (Planificador pl : List.of(lista, heap)) {
+                    pl.removerProceso(elegido);
+                    pl.agregarProceso(elegido);
+                }
+            }
+        }
+    }
+
+    private static Proceso listo(int pid, int rafaga, int prioridad) {
+        Proceso p = new Proceso(pid, "P" + pid, 0, rafaga, prioridad, 42L);
+        p.cambiarEstado(EstadoProceso.READY);
+        return p;
+    }
+}